@@ -1,6 +1,7 @@
 plugins {
     id("org.openrewrite.build.recipe-library") version "latest.release"
     id("org.openrewrite.build.moderne-source-available-license") version "latest.release"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.openrewrite.recipe"
@@ -8,9 +9,9 @@ description = "Micrometer Migration"
 
 recipeDependencies {
     parserClasspath("io.dropwizard.metrics:metrics-core:4.2.23")
-    parserClasspath("io.micrometer:micrometer-commons:1.11.3")
-    parserClasspath("io.micrometer:micrometer-core:1.11.3")
-    parserClasspath("io.micrometer:micrometer-observation:1.11.3")
+    parserClasspath("io.micrometer:micrometer-commons:1.12.13")
+    parserClasspath("io.micrometer:micrometer-core:1.12.13")
+    parserClasspath("io.micrometer:micrometer-observation:1.12.13")
 }
 
 val rewriteVersion = rewriteRecipe.rewriteVersion.get()
@@ -18,6 +19,8 @@ val micrometerVersion = "1.12.+"
 dependencies {
     implementation(platform("org.openrewrite:rewrite-bom:$rewriteVersion"))
     implementation("org.openrewrite:rewrite-java")
+    implementation("org.openrewrite:rewrite-gradle")
+    implementation("org.openrewrite:rewrite-maven")
     implementation("org.openrewrite.recipe:rewrite-java-dependencies:$rewriteVersion")
 
     annotationProcessor("org.openrewrite:rewrite-templating:latest.integration")
@@ -32,8 +35,7 @@ dependencies {
 
     testImplementation("org.openrewrite:rewrite-java-21")
     testImplementation("org.openrewrite:rewrite-test")
-    testImplementation("org.openrewrite:rewrite-gradle")
-    testImplementation("org.openrewrite:rewrite-maven")
+    testImplementation("org.openrewrite.gradle.tooling:model:$rewriteVersion")
 
     testImplementation("org.openrewrite:rewrite-test")
     testImplementation("org.openrewrite:rewrite-kotlin")
@@ -44,4 +46,19 @@ dependencies {
     testRuntimeOnly("org.jetbrains.kotlin:kotlin-stdlib-common:1.9.0")
     testRuntimeOnly("org.jetbrains.kotlin:kotlin-reflect:1.9.0")
     testRuntimeOnly("com.squareup.misk:misk-metrics:2023.09.27.194750-c3aa143")
+
+    jmh("org.openrewrite:rewrite-java-21")
+    jmh("org.openrewrite:rewrite-kotlin")
+    jmh("org.openjdk.jmh:jmh-core:latest.release")
+    jmh("org.openjdk.jmh:jmh-generator-annprocess:latest.release")
+    jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:latest.release")
+
+    jmhRuntimeOnly("org.jetbrains.kotlin:kotlin-stdlib-common:1.9.0")
+    jmhRuntimeOnly("org.jetbrains.kotlin:kotlin-reflect:1.9.0")
+    jmhRuntimeOnly("com.squareup.misk:misk-metrics:2023.09.27.194750-c3aa143")
+}
+
+jmh {
+    profilers = listOf("gc")
+    duplicateClassesStrategy = DuplicatesStrategy.EXCLUDE
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.benchmarks;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.micrometer.dropwizard.FindDropwizardMetrics;
+
+public class FindDropwizardMetricsBenchmark extends RecipeBenchmark {
+
+    @Override
+    Recipe recipe() {
+        return new FindDropwizardMetrics(null, null, null);
+    }
+
+    @Override
+    JavaParser.Builder<?, ?> parser(ExecutionContext ctx) {
+        return JavaParser.fromJavaVersion().classpathFromResources(ctx, "metrics-core");
+    }
+
+    @Override
+    String matchingSource(int i) {
+        return "package org.example.dropwizard;\n" +
+               "\n" +
+               "import com.codahale.metrics.MetricRegistry;\n" +
+               "\n" +
+               "class Instrumented" + i + " {\n" +
+               "    void instrument(MetricRegistry registry) {\n" +
+               "        registry.counter(\"my.counter\");\n" +
+               "        registry.gauge(\"my.gauge\");\n" +
+               "        registry.remove(\"my.counter\");\n" +
+               "    }\n" +
+               "}\n";
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.benchmarks;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.micrometer.misk.NoExplicitEmptyLabelList;
+
+public class NoExplicitEmptyLabelListBenchmark extends RecipeBenchmark {
+
+    @Override
+    Recipe recipe() {
+        return new NoExplicitEmptyLabelList();
+    }
+
+    @Override
+    JavaParser.Builder<?, ?> parser(ExecutionContext ctx) {
+        return JavaParser.fromJavaVersion().classpath("misk-metrics", "kotlin-reflect", "kotlin-stdlib");
+    }
+
+    @Override
+    String matchingSource(int i) {
+        return "package org.example.misk;\n" +
+               "\n" +
+               "import misk.metrics.v2.Metrics;\n" +
+               "import static kotlin.collections.CollectionsKt.listOf;\n" +
+               "\n" +
+               "class Labels" + i + " {\n" +
+               "    void test(Metrics metrics) {\n" +
+               "        metrics.counter(\"counter\", \"description\", listOf());\n" +
+               "        metrics.gauge(\"gauge\", \"description\", listOf());\n" +
+               "        metrics.peakGauge(\"peakGauge\", \"description\", listOf());\n" +
+               "        metrics.counter(\"labelled\", \"description\", listOf(\"label\"));\n" +
+               "    }\n" +
+               "}\n";
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.JavaParser;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs a recipe over a generated corpus of compilation units. Subclasses supply the recipe, the parser and
+ * the source of a single compilation unit; the corpus size and whether the generated sources contain
+ * call sites the recipe acts on are benchmark parameters.
+ * <p>
+ * Run with {@code ./gradlew jmh}; the {@code gc} profiler is enabled in the build so allocation rates are
+ * reported next to throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public abstract class RecipeBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int compilationUnits;
+
+    @Param({"true", "false"})
+    boolean matching;
+
+    List<SourceFile> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<String> sources = IntStream.range(0, compilationUnits)
+                .mapToObj(i -> matching ? matchingSource(i) : nonMatchingSource(i))
+                .collect(Collectors.toList());
+        sourceFiles = parser(ctx).build()
+                .parse(ctx, sources.toArray(new String[0]))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void run(Blackhole blackhole) {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        blackhole.consume(recipe().run(new InMemoryLargeSourceSet(sourceFiles), ctx).getChangeset().getAllResults());
+    }
+
+    abstract Recipe recipe();
+
+    abstract JavaParser.Builder<?, ?> parser(ExecutionContext ctx);
+
+    /**
+     * @param i The index of the compilation unit in the corpus, to be used to give each class a unique name.
+     * @return A compilation unit containing call sites the recipe changes or finds.
+     */
+    abstract String matchingSource(int i);
+
+    /**
+     * @param i The index of the compilation unit in the corpus, to be used to give each class a unique name.
+     * @return A compilation unit of a similar size that the recipe leaves untouched.
+     */
+    String nonMatchingSource(int i) {
+        return "package org.example.unrelated;\n" +
+               "\n" +
+               "import java.util.ArrayList;\n" +
+               "import java.util.List;\n" +
+               "\n" +
+               "class Unrelated" + i + " {\n" +
+               "    private final List<String> names = new ArrayList<>();\n" +
+               "\n" +
+               "    void add(String name) {\n" +
+               "        if (!names.contains(name)) {\n" +
+               "            names.add(name.trim());\n" +
+               "        }\n" +
+               "    }\n" +
+               "\n" +
+               "    int count() {\n" +
+               "        return names.size();\n" +
+               "    }\n" +
+               "}\n";
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.benchmarks;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.micrometer.TimerToObservation;
+
+public class TimerToObservationBenchmark extends RecipeBenchmark {
+
+    @Override
+    Recipe recipe() {
+        return new TimerToObservation();
+    }
+
+    @Override
+    JavaParser.Builder<?, ?> parser(ExecutionContext ctx) {
+        return JavaParser.fromJavaVersion().classpathFromResources(ctx, "micrometer-core");
+    }
+
+    @Override
+    String matchingSource(int i) {
+        return "package org.example.timer;\n" +
+               "\n" +
+               "import io.micrometer.core.instrument.MeterRegistry;\n" +
+               "import io.micrometer.core.instrument.Timer;\n" +
+               "\n" +
+               "class Timed" + i + " {\n" +
+               "    private MeterRegistry registry;\n" +
+               "\n" +
+               "    void record(Runnable arg) {\n" +
+               "        Timer.builder(\"my.timer\")\n" +
+               "                .tag(\"key\", \"value\")\n" +
+               "                .register(registry)\n" +
+               "                .record(arg);\n" +
+               "    }\n" +
+               "\n" +
+               "    void wrap(Runnable arg) {\n" +
+               "        Timer t = Timer.builder(\"my.other.timer\")\n" +
+               "                .tags(\"a\", \"b\", \"c\", \"d\")\n" +
+               "                .register(registry);\n" +
+               "        t.wrap(arg).run();\n" +
+               "    }\n" +
+               "}\n";
+    }
+}
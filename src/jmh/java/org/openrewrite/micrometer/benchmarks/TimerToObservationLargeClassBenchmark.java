@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.micrometer.TimerToObservation;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the cost of {@link TimerToObservation} on a single large service class that passes the recipe's
+ * precondition but only uses a {@code Timer} in one of its methods, which is where the number of whole
+ * compilation unit walks made by the recipe dominates. The number of walks itself is asserted by
+ * {@code TimerToObservationTest#changesTypesInTheSameTraversal}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TimerToObservationLargeClassBenchmark {
+
+    @Param({"1000", "5000"})
+    int lines;
+
+    List<SourceFile> sourceFiles;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        StringBuilder source = new StringBuilder()
+                .append("package org.example.timer;\n\n")
+                .append("import io.micrometer.core.instrument.MeterRegistry;\n")
+                .append("import io.micrometer.core.instrument.Timer;\n\n")
+                .append("class LargeService {\n")
+                .append("    private MeterRegistry registry;\n\n")
+                .append("    void timed(Runnable arg) {\n")
+                .append("        Timer.builder(\"my.timer\").register(registry).record(arg);\n")
+                .append("    }\n");
+        // each generated method is five lines long
+        for (int i = 0; i < lines / 5; i++) {
+            source.append("\n    int method").append(i).append("(int a, int b) {\n")
+                    .append("        int c = a * ").append(i).append(" + b;\n")
+                    .append("        return Math.max(c, String.valueOf(c).length());\n")
+                    .append("    }\n");
+        }
+        source.append("}\n");
+        sourceFiles = JavaParser.fromJavaVersion()
+                .classpathFromResources(ctx, "micrometer-core")
+                .build()
+                .parse(ctx, source.toString())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public void run(Blackhole blackhole) {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        blackhole.consume(new TimerToObservation().run(new InMemoryLargeSourceSet(sourceFiles), ctx).getChangeset().getAllResults());
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BatchCounterIncrements extends Recipe {
+    private static final String COUNTER = "io.micrometer.core.instrument.Counter";
+    private static final MethodMatcher COUNTER_INCREMENT = new MethodMatcher(COUNTER + " increment()");
+    private static final MethodMatcher ITERABLE_FOR_EACH = new MethodMatcher("java.lang.Iterable forEach(..)", true);
+    private static final MethodMatcher MAP_FOR_EACH = new MethodMatcher("java.util.Map forEach(..)", true);
+
+    @Getter
+    final String displayName = "Batch counter increments in loops";
+
+    @Getter
+    final String description = "Replace an unconditional `counter.increment()` on every iteration of a for-each loop or " +
+                               "a `forEach` lambda over a collection, map or array with a single " +
+                               "`counter.increment(items.size())` after the loop. Loops that can exit early through " +
+                               "`break`, `continue`, `return` or an exception, or that use the counter or the items otherwise, " +
+                               "are left unchanged.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return RecipeInstrumentation.check(this, new UsesType<>(COUNTER, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = super.visitBlock(block, ctx);
+                for (Statement statement : b.getStatements()) {
+                    Batch batch = batch(statement);
+                    if (batch == null) {
+                        continue;
+                    }
+                    JavaTemplate increment = JavaTemplate.builder(batch.getCounter().printTrimmed(getCursor()) + ".increment(" +
+                                                                  batch.getItems().printTrimmed(getCursor()) +
+                                                                  (batch.isArray() ? ".length" : ".size()") + ");")
+                            .contextSensitive()
+                            .javaParser(ParserCache.get(ctx).classpathFromResources(ctx, "micrometer-core"))
+                            .build();
+                    if (batch.getLoop() == null) {
+                        b = increment.apply(updateCursor(b), statement.getCoordinates().replace());
+                    } else {
+                        Statement loop = batch.getLoop();
+                        b = b.withStatements(ListUtils.map(b.getStatements(), s -> s.getId().equals(statement.getId()) ? loop : s));
+                        b = increment.apply(updateCursor(b), loop.getCoordinates().after());
+                    }
+                    RecipeInstrumentation.match(ctx, BatchCounterIncrements.this);
+                }
+                return b;
+            }
+        });
+    }
+
+    /**
+     * @return How to batch the increments of a for-each loop or {@code forEach} call, or null when it has no
+     * unconditional increment of a counter that is used for nothing else or can exit early.
+     */
+    private static @Nullable Batch batch(Statement statement) {
+        if (statement instanceof J.ForEachLoop) {
+            J.ForEachLoop forEach = (J.ForEachLoop) statement;
+            Expression items = forEach.getControl().getIterable();
+            boolean array = items.getType() instanceof JavaType.Array;
+            if (!array && !TypeUtils.isAssignableTo("java.util.Collection", items.getType())) {
+                return null;
+            }
+            Statement variable = forEach.getControl().getVariable();
+            if (variable instanceof J.VariableDeclarations && ((J.VariableDeclarations) variable).getType() instanceof JavaType.Primitive &&
+                !(array && ((JavaType.Array) items.getType()).getElemType() instanceof JavaType.Primitive)) {
+                // unboxing each item can throw before the body runs
+                return null;
+            }
+            Statement body = forEach.getBody();
+            List<Statement> statements = body instanceof J.Block ? ((J.Block) body).getStatements() : Collections.singletonList(body);
+            J.MethodInvocation increment = increment(statements, body, items);
+            if (increment == null || exits(body, true) || mayThrow(body, increment)) {
+                return null;
+            }
+            if (statements.size() == 1) {
+                return new Batch(increment.getSelect(), items, array, null);
+            }
+            return new Batch(increment.getSelect(), items, array,
+                    forEach.withBody(((J.Block) body).withStatements(ListUtils.map(statements, s -> s == increment ? null : s))));
+        }
+        if (statement instanceof J.MethodInvocation && isSizedForEach((J.MethodInvocation) statement)) {
+            J.MethodInvocation forEach = (J.MethodInvocation) statement;
+            Expression items = Objects.requireNonNull(forEach.getSelect());
+            J.Lambda lambda = (J.Lambda) forEach.getArguments().get(0);
+            J body = lambda.getBody();
+            List<Statement> statements = body instanceof J.Block ? ((J.Block) body).getStatements() :
+                    body instanceof Statement ? Collections.singletonList((Statement) body) : Collections.emptyList();
+            J.MethodInvocation increment = increment(statements, body, items);
+            if (increment == null || exits(body, false) || mayThrow(body, increment)) {
+                return null;
+            }
+            if (statements.size() == 1) {
+                return new Batch(increment.getSelect(), items, false, null);
+            }
+            return new Batch(increment.getSelect(), items, false, forEach.withArguments(Collections.singletonList(
+                    lambda.withBody(((J.Block) body).withStatements(ListUtils.map(statements, s -> s == increment ? null : s))))));
+        }
+        return null;
+    }
+
+    private static boolean isSizedForEach(J.MethodInvocation method) {
+        return method.getSelect() != null && method.getArguments().get(0) instanceof J.Lambda &&
+               (ITERABLE_FOR_EACH.matches(method) && TypeUtils.isAssignableTo("java.util.Collection", method.getSelect().getType()) ||
+                MAP_FOR_EACH.matches(method));
+    }
+
+    /**
+     * @return The only top-level {@code counter.increment()} of a loop body, when neither the counter nor the items
+     * looped over are otherwise referred to in the body, where the items could be reassigned or modified.
+     */
+    private static J.@Nullable MethodInvocation increment(List<Statement> statements, J body, Expression items) {
+        J.MethodInvocation increment = null;
+        for (Statement statement : statements) {
+            if (statement instanceof J.MethodInvocation && COUNTER_INCREMENT.matches((J.MethodInvocation) statement)) {
+                if (increment != null) {
+                    return null;
+                }
+                increment = (J.MethodInvocation) statement;
+            }
+        }
+        if (increment == null) {
+            return null;
+        }
+        JavaType.Variable counter = stableVariable(increment.getSelect());
+        JavaType.Variable iterated = stableVariable(items);
+        if (counter == null || iterated == null || references(body, counter) != 1 || references(body, iterated) != 0) {
+            return null;
+        }
+        return increment;
+    }
+
+    /**
+     * @return The variable a local, parameter, field or {@code this.field} refers to, or null for any other expression.
+     */
+    private static JavaType.@Nullable Variable stableVariable(@Nullable Expression expression) {
+        if (expression instanceof J.Identifier) {
+            return ((J.Identifier) expression).getFieldType();
+        }
+        if (expression instanceof J.FieldAccess && ((J.FieldAccess) expression).getTarget() instanceof J.Identifier &&
+            "this".equals(((J.Identifier) ((J.FieldAccess) expression).getTarget()).getSimpleName())) {
+            return ((J.FieldAccess) expression).getName().getFieldType();
+        }
+        return null;
+    }
+
+    private static int references(J body, JavaType.Variable variable) {
+        AtomicInteger references = new AtomicInteger();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Integer p) {
+                if (variable.equals(identifier.getFieldType())) {
+                    references.incrementAndGet();
+                }
+                return super.visitIdentifier(identifier, p);
+            }
+        }.visit(body, 0);
+        return references.get();
+    }
+
+    /**
+     * @return True when anything in the body other than the increment could throw, such as a method call, an object
+     * creation, an array access, a cast, an integer division or unboxing. The increments of the iterations before the
+     * exception would otherwise be lost once batched after the loop.
+     */
+    private static boolean mayThrow(J body, J.MethodInvocation increment) {
+        AtomicBoolean mayThrow = new AtomicBoolean();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                mayThrow.compareAndSet(false, method != increment);
+                return method;
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, Integer p) {
+                mayThrow.set(true);
+                return newClass;
+            }
+
+            @Override
+            public J.NewArray visitNewArray(J.NewArray newArray, Integer p) {
+                mayThrow.set(true);
+                return newArray;
+            }
+
+            @Override
+            public J.ArrayAccess visitArrayAccess(J.ArrayAccess arrayAccess, Integer p) {
+                mayThrow.set(true);
+                return arrayAccess;
+            }
+
+            @Override
+            public J.TypeCast visitTypeCast(J.TypeCast typeCast, Integer p) {
+                mayThrow.set(true);
+                return typeCast;
+            }
+
+            @Override
+            public J.MemberReference visitMemberReference(J.MemberReference memberRef, Integer p) {
+                mayThrow.set(true);
+                return memberRef;
+            }
+
+            @Override
+            public J.Assert visitAssert(J.Assert azzert, Integer p) {
+                mayThrow.set(true);
+                return azzert;
+            }
+
+            @Override
+            public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, Integer p) {
+                // the target of a field other than this one, or a static one, could be null
+                Expression target = fieldAccess.getTarget();
+                if (!(target instanceof J.Identifier) ||
+                    !"this".equals(((J.Identifier) target).getSimpleName()) && ((J.Identifier) target).getFieldType() != null) {
+                    mayThrow.set(true);
+                }
+                return super.visitFieldAccess(fieldAccess, p);
+            }
+
+            @Override
+            public J.Binary visitBinary(J.Binary binary, Integer p) {
+                J.Binary.Type operator = binary.getOperator();
+                boolean unboxes = operator == J.Binary.Type.Equal || operator == J.Binary.Type.NotEqual ?
+                        unboxes(binary.getLeft()) != unboxes(binary.getRight()) :
+                        !TypeUtils.isString(binary.getType()) && (unboxes(binary.getLeft()) || unboxes(binary.getRight()));
+                if (operator == J.Binary.Type.Division || operator == J.Binary.Type.Modulo || unboxes) {
+                    mayThrow.set(true);
+                }
+                return super.visitBinary(binary, p);
+            }
+
+            @Override
+            public J.Unary visitUnary(J.Unary unary, Integer p) {
+                mayThrow.compareAndSet(false, unboxes(unary.getExpression()));
+                return super.visitUnary(unary, p);
+            }
+
+            @Override
+            public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, Integer p) {
+                J.AssignmentOperation.Type operator = assignOp.getOperator();
+                if (operator == J.AssignmentOperation.Type.Division || operator == J.AssignmentOperation.Type.Modulo ||
+                    !TypeUtils.isString(assignOp.getVariable().getType()) &&
+                    (unboxes(assignOp.getVariable()) || unboxes(assignOp.getAssignment()))) {
+                    mayThrow.set(true);
+                }
+                return super.visitAssignmentOperation(assignOp, p);
+            }
+
+            private boolean unboxes(Expression operand) {
+                return !(operand.getType() instanceof JavaType.Primitive);
+            }
+        }.visit(body, 0);
+        return mayThrow.get();
+    }
+
+    /**
+     * @param loopBody True for the body of a loop, where {@code break} and {@code continue} also exit early, false
+     *                 for the body of a lambda.
+     * @return True when the body can end an iteration, or the loop, early other than by an exception.
+     */
+    private static boolean exits(J body, boolean loopBody) {
+        AtomicBoolean exits = new AtomicBoolean();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.Lambda visitLambda(J.Lambda lambda, Integer p) {
+                // a return in a nested lambda only ends the lambda
+                return lambda;
+            }
+
+            @Override
+            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, Integer p) {
+                return classDecl;
+            }
+
+            @Override
+            public J.NewClass visitNewClass(J.NewClass newClass, Integer p) {
+                return newClass.getBody() == null ? super.visitNewClass(newClass, p) : newClass;
+            }
+
+            @Override
+            public J.Break visitBreak(J.Break breakStatement, Integer p) {
+                exits.compareAndSet(false, loopBody);
+                return breakStatement;
+            }
+
+            @Override
+            public J.Continue visitContinue(J.Continue continueStatement, Integer p) {
+                exits.compareAndSet(false, loopBody);
+                return continueStatement;
+            }
+
+            @Override
+            public J.Return visitReturn(J.Return returnStatement, Integer p) {
+                exits.set(true);
+                return returnStatement;
+            }
+
+            @Override
+            public J.Throw visitThrow(J.Throw thrown, Integer p) {
+                exits.set(true);
+                return thrown;
+            }
+        }.visit(body, 0);
+        return exits.get();
+    }
+
+    @Value
+    private static class Batch {
+        Expression counter;
+        Expression items;
+        boolean array;
+
+        /**
+         * The loop without its increment, or null when the increment was all the loop did.
+         */
+        @Nullable
+        Statement loop;
+    }
+}
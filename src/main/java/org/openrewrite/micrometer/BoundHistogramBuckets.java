@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.micrometer.table.HistogramBucketReductions;
+
+import java.util.concurrent.TimeUnit;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class BoundHistogramBuckets extends Recipe {
+    private static final MethodMatcher TIMER_HISTOGRAM = new MethodMatcher("io.micrometer.core.instrument.Timer$Builder publishPercentileHistogram(..)");
+    private static final MethodMatcher SUMMARY_HISTOGRAM = new MethodMatcher("io.micrometer.core.instrument.DistributionSummary$Builder publishPercentileHistogram(..)");
+    private static final long DEFAULT_TIMER_MINIMUM_MILLIS = 1;
+    private static final long DEFAULT_TIMER_MAXIMUM_MILLIS = 30_000;
+
+    transient HistogramBucketReductions reductions = new HistogramBucketReductions(this);
+
+    @Option(displayName = "Meter name pattern",
+            description = "A glob matching the names of the meters to bound. Defaults to every meter with a literal name.",
+            example = "http.server.*",
+            required = false)
+    @Nullable
+    String meterNamePattern;
+
+    @Option(displayName = "Minimum expected value",
+            description = "The smallest value expected, in milliseconds for timers and in base units for distribution " +
+                          "summaries. Defaults to 1 millisecond for timers, Micrometer's own default.",
+            example = "1",
+            required = false)
+    @Nullable
+    Long minimumExpectedValue;
+
+    @Option(displayName = "Maximum expected value",
+            description = "The largest value expected, in milliseconds for timers and in base units for distribution " +
+                          "summaries. Defaults to 30 seconds for timers, Micrometer's own default.",
+            example = "30000",
+            required = false)
+    @Nullable
+    Long maximumExpectedValue;
+
+    @Getter
+    String displayName = "Bound percentile histogram buckets";
+
+    @Getter
+    String description = "Add `minimumExpectedValue` and `maximumExpectedValue` to `Timer` and `DistributionSummary` builders " +
+                         "that publish a percentile histogram without bounds. Timers already default to 1 millisecond to " +
+                         "30 seconds, or 66 buckets per tag combination, so they are only bounded when the expected values " +
+                         "differ from these. Distribution summaries otherwise publish 276 buckets per tag combination, and " +
+                         "are only bounded when both values are given.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return RecipeInstrumentation.check(this, InstrumentationTypesInUse.uses(InstrumentationTypesInUse.Library.MICROMETER), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                boolean timer = TIMER_HISTOGRAM.matches(m);
+                if (!timer && !SUMMARY_HISTOGRAM.matches(m) || isDisabled(m) ||
+                    MeterRegistrations.chainCalls(m, "minimumExpectedValue") || MeterRegistrations.chainCalls(m, "maximumExpectedValue") ||
+                    MeterRegistrations.laterInChainCalls(getCursor(), "minimumExpectedValue") ||
+                    MeterRegistrations.laterInChainCalls(getCursor(), "maximumExpectedValue")) {
+                    return m;
+                }
+                J.MethodInvocation builder = MeterRegistrations.builder(m);
+                String name = builder == null || builder.getArguments().isEmpty() ? null :
+                        MeterRegistrations.literalString(builder.getArguments().get(0));
+                if (name == null || meterNamePattern != null && !StringUtils.matchesGlob(name, meterNamePattern)) {
+                    return m;
+                }
+
+                String bounds;
+                int bucketsBefore;
+                int bucketsAfter;
+                if (timer) {
+                    long min = minimumExpectedValue == null ? DEFAULT_TIMER_MINIMUM_MILLIS : minimumExpectedValue;
+                    long max = maximumExpectedValue == null ? DEFAULT_TIMER_MAXIMUM_MILLIS : maximumExpectedValue;
+                    if (min == DEFAULT_TIMER_MINIMUM_MILLIS && max == DEFAULT_TIMER_MAXIMUM_MILLIS) {
+                        return m;
+                    }
+                    bounds = ".minimumExpectedValue(" + duration(min) + ").maximumExpectedValue(" + duration(max) + ")";
+                    bucketsBefore = PercentileHistogramBuckets.count(
+                            TimeUnit.MILLISECONDS.toNanos(DEFAULT_TIMER_MINIMUM_MILLIS),
+                            TimeUnit.MILLISECONDS.toNanos(DEFAULT_TIMER_MAXIMUM_MILLIS));
+                    bucketsAfter = PercentileHistogramBuckets.count(TimeUnit.MILLISECONDS.toNanos(min), TimeUnit.MILLISECONDS.toNanos(max));
+                } else if (minimumExpectedValue != null && maximumExpectedValue != null) {
+                    bounds = ".minimumExpectedValue(" + minimumExpectedValue + ".0).maximumExpectedValue(" + maximumExpectedValue + ".0)";
+                    bucketsBefore = PercentileHistogramBuckets.count(1, Double.POSITIVE_INFINITY);
+                    bucketsAfter = PercentileHistogramBuckets.count(minimumExpectedValue, maximumExpectedValue);
+                } else {
+                    return m;
+                }
+
+                String builderType = timer ? "io.micrometer.core.instrument.Timer.Builder" : "io.micrometer.core.instrument.DistributionSummary.Builder";
+                m = JavaTemplate.builder("#{any(" + builderType + ")}" + bounds)
+                        .javaParser(ParserCache.get(ctx).classpathFromResources(ctx, "micrometer-core"))
+                        .imports("java.time.Duration")
+                        .build()
+                        .apply(getCursor(), m.getCoordinates().replace(), m);
+                if (timer) {
+                    maybeAddImport("java.time.Duration");
+                }
+                reductions.insertRow(ctx, new HistogramBucketReductions.Row(
+                        getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getSourcePath().toString(),
+                        name,
+                        timer ? "Timer" : "DistributionSummary",
+                        bucketsBefore,
+                        bucketsAfter));
+                RecipeInstrumentation.match(ctx, BoundHistogramBuckets.this);
+                return m;
+            }
+        });
+    }
+
+    private static boolean isDisabled(J.MethodInvocation publishPercentileHistogram) {
+        return publishPercentileHistogram.getArguments().size() == 1 &&
+               publishPercentileHistogram.getArguments().get(0) instanceof J.Literal &&
+               Boolean.FALSE.equals(((J.Literal) publishPercentileHistogram.getArguments().get(0)).getValue());
+    }
+
+    private static String duration(long millis) {
+        return millis % 1000 == 0 ? "Duration.ofSeconds(" + millis / 1000 + ")" : "Duration.ofMillis(" + millis + ")";
+    }
+}
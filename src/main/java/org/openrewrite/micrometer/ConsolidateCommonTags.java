@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.stream.Collectors.joining;
+
+public class ConsolidateCommonTags extends ScanningRecipe<ConsolidateCommonTags.Accumulator> {
+
+    @Getter
+    final String displayName = "Consolidate repeated tags into common tags";
+
+    @Getter
+    final String description = "Tag key/value pairs attached by hand to every meter registered against the same registry " +
+                               "in a project are removed from the individual registrations, and added once with " +
+                               "`registry.config().commonTags(..)` where the registry is constructed. Registries that are " +
+                               "passed elsewhere, or whose construction is not found, are left alone.";
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return Preconditions.check(new UsesType<>(MeterRegistrations.METER_REGISTRY, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                if (MeterRegistrations.registeredMeterType(method) != null) {
+                    String key = MeterRegistrations.variableKey(MeterRegistrations.registry(method));
+                    if (key != null) {
+                        acc.registry(project(getCursor()), key).registered(tags(method));
+                    }
+                }
+                return super.visitMethodInvocation(method, ctx);
+            }
+
+            @Override
+            public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                if (!isClassBody(getCursor())) {
+                    for (Statement statement : block.getStatements()) {
+                        String key = MeterRegistrations.variableKey(MeterRegistrations.constructedRegistry(statement));
+                        if (key != null) {
+                            acc.registry(project(getCursor()), key).constructed = true;
+                        }
+                    }
+                }
+                return super.visitBlock(block, ctx);
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, ExecutionContext ctx) {
+                String key = TypeUtils.isAssignableTo(MeterRegistrations.METER_REGISTRY, identifier.getType()) ?
+                        MeterRegistrations.variableKey(identifier) : null;
+                if (key != null) {
+                    Cursor parent = getCursor().getParentTreeCursor();
+                    if (parent.getValue() instanceof J.FieldAccess) {
+                        parent = parent.getParentTreeCursor();
+                    }
+                    Object use = parent.getValue();
+                    if (use instanceof J.VariableDeclarations.NamedVariable ?
+                            ((J.VariableDeclarations.NamedVariable) use).getName() != identifier :
+                            !isRegistration(use) && !(use instanceof Statement && MeterRegistrations.constructedRegistry((Statement) use) != null)) {
+                        // handed to code this recipe cannot see, whose meters would gain the common tags too
+                        acc.registry(project(getCursor()), key).escaped = true;
+                    }
+                }
+                return super.visitIdentifier(identifier, ctx);
+            }
+        });
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return RecipeInstrumentation.check(this, new UsesType<>(MeterRegistrations.METER_REGISTRY, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = super.visitBlock(block, ctx);
+                if (isClassBody(getCursor())) {
+                    return b;
+                }
+                for (Statement statement : b.getStatements()) {
+                    Expression variable = MeterRegistrations.constructedRegistry(statement);
+                    Set<TagPair> common = variable == null ? null : common(variable);
+                    if (common == null) {
+                        continue;
+                    }
+                    // the tags are literals, so only the registry needs a type, which it keeps as a parameter
+                    b = JavaTemplate.builder("#{any(" + MeterRegistrations.METER_REGISTRY + ")}.config().commonTags(" +
+                                             common.stream().map(p -> p.getKey() + ", " + p.getValue()).collect(joining(", ")) + ");")
+                            .javaParser(ParserCache.get(ctx).classpathFromResources(ctx, "micrometer-core"))
+                            .build()
+                            .apply(updateCursor(b), statement.getCoordinates().after(), variable.withId(Tree.randomId()));
+                    RecipeInstrumentation.match(ctx, ConsolidateCommonTags.this);
+                }
+                return b;
+            }
+
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                if (MeterRegistrations.registeredMeterType(m) == null) {
+                    return m;
+                }
+                Set<TagPair> common = common(MeterRegistrations.registry(m));
+                if (common == null) {
+                    return m;
+                }
+                J.MethodInvocation builder = MeterRegistrations.builder(m);
+                if (builder != null) {
+                    return m.withSelect(MeterRegistrations.withoutCalls(m.getSelect(), builder,
+                            call -> "tag".equals(call.getSimpleName()) && common.contains(TagPair.of(call.getArguments(), 0))));
+                }
+                List<Expression> arguments = new ArrayList<>(m.getArguments());
+                for (int i = arguments.size() % 2 == 1 ? arguments.size() - 2 : -1; i >= 1; i -= 2) {
+                    if (common.contains(TagPair.of(arguments, i))) {
+                        arguments.remove(i + 1);
+                        arguments.remove(i);
+                    }
+                }
+                return m.withArguments(arguments);
+            }
+
+            private @Nullable Set<TagPair> common(@Nullable Expression registry) {
+                String key = MeterRegistrations.variableKey(registry);
+                if (key == null) {
+                    return null;
+                }
+                Registry r = acc.registries.get(project(getCursor()) + " " + key);
+                return r == null || !r.isConsolidated() ? null : r.common;
+            }
+        });
+    }
+
+    private static String project(Cursor cursor) {
+        return cursor.firstEnclosingOrThrow(SourceFile.class).getMarkers()
+                .findFirst(JavaProject.class).map(JavaProject::getProjectName).orElse("");
+    }
+
+    private static boolean isClassBody(Cursor block) {
+        Object parent = block.getParentTreeCursor().getValue();
+        return parent instanceof J.ClassDeclaration || parent instanceof J.NewClass;
+    }
+
+    private static boolean isRegistration(Object use) {
+        return use instanceof J.MethodInvocation && MeterRegistrations.registeredMeterType((J.MethodInvocation) use) != null ||
+               use instanceof J.MethodInvocation && "config".equals(((J.MethodInvocation) use).getSimpleName());
+    }
+
+    /**
+     * @return The tags of a registration given as literal key/value pairs, either as {@code tag(key, value)} on a
+     * builder or as {@code registry.counter(name, key, value, ..)}.
+     */
+    private static Set<TagPair> tags(J.MethodInvocation registration) {
+        Set<TagPair> tags = new LinkedHashSet<>();
+        List<Expression> arguments = MeterRegistrations.tagArguments(registration);
+        for (int i = 0; i + 1 < arguments.size(); i += 2) {
+            TagPair pair = TagPair.of(arguments, i);
+            if (pair != null) {
+                tags.add(pair);
+            }
+        }
+        return tags;
+    }
+
+    public static class Accumulator {
+        final Map<String, Registry> registries = new ConcurrentHashMap<>();
+
+        Registry registry(String project, String key) {
+            return registries.computeIfAbsent(project + " " + key, k -> new Registry());
+        }
+    }
+
+    /**
+     * What is known about a registry, from the scanners of every source file using it, which may run concurrently.
+     */
+    static class Registry {
+        @Nullable
+        Set<TagPair> common;
+
+        int registrations;
+        volatile boolean constructed;
+        volatile boolean escaped;
+
+        synchronized void registered(Set<TagPair> tags) {
+            registrations++;
+            if (common == null) {
+                common = new LinkedHashSet<>(tags);
+            } else {
+                common.retainAll(tags);
+            }
+        }
+
+        synchronized boolean isConsolidated() {
+            return constructed && !escaped && registrations > 1 && common != null && !common.isEmpty();
+        }
+    }
+
+    /**
+     * A tag given as two string literals, compared by their source so that it can be written back verbatim.
+     */
+    @Value
+    static class TagPair {
+        String key;
+        String value;
+
+        static @Nullable TagPair of(List<Expression> arguments, int index) {
+            if (arguments.size() < index + 2 ||
+                MeterRegistrations.literalString(arguments.get(index)) == null ||
+                MeterRegistrations.literalString(arguments.get(index + 1)) == null) {
+                return null;
+            }
+            return new TagPair(Objects.requireNonNull(((J.Literal) arguments.get(index)).getValueSource()),
+                    Objects.requireNonNull(((J.Literal) arguments.get(index + 1)).getValueSource()));
+        }
+    }
+}
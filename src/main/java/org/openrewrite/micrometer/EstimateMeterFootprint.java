@@ -0,0 +1,373 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.micrometer.table.MeterFootprints;
+import org.openrewrite.micrometer.table.ModuleMeterFootprints;
+
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class EstimateMeterFootprint extends ScanningRecipe<EstimateMeterFootprint.Accumulator> {
+    private static final long DEFAULT_UNBOUNDED_TAG_CARDINALITY = 100;
+
+    /*
+     * Rough sizes of what a registry keeps per tag combination: the meter and its id, each tag, each histogram
+     * bucket counted in the ring buffer of time windows, and the ring buffer of HdrHistograms behind
+     * client-side percentiles.
+     */
+    private static final long METER_BYTES = 256;
+    private static final long TAG_BYTES = 64;
+    private static final long BUCKET_BYTES = 32;
+    private static final long PERCENTILES_BYTES = 8192;
+    private static final long TIMER_MINIMUM_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long TIMER_MAXIMUM_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    transient MeterFootprints footprints = new MeterFootprints(this);
+    transient ModuleMeterFootprints moduleFootprints = new ModuleMeterFootprints(this);
+
+    @Option(displayName = "Unbounded tag cardinality",
+            description = "The number of distinct values assumed for a tag whose value comes from unbounded input, " +
+                          "such as a request path or an identifier. Defaults to 100.",
+            example = "1000",
+            required = false)
+    @Nullable
+    Long unboundedTagCardinality;
+
+    @Getter
+    String displayName = "Estimate meter footprint";
+
+    @Getter
+    String description = "Estimate the time series each Micrometer meter definition publishes and the registry memory " +
+                         "it takes, from its type, its tags and the estimated number of values of each, and the histogram, " +
+                         "service level objectives and percentiles it publishes. Totals are reported per module.";
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(Validated.test("unboundedTagCardinality", "Must be positive",
+                unboundedTagCardinality, c -> c == null || c > 0));
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return Preconditions.check(new UsesType<>(MeterRegistrations.METER_REGISTRY, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                String meterType = MeterRegistrations.definedMeterType(method);
+                if (meterType != null) {
+                    Footprint footprint = estimate(method, meterType.substring(meterType.lastIndexOf('.') + 1), getCursor());
+                    String module = getCursor().firstEnclosingOrThrow(SourceFile.class).getMarkers()
+                            .findFirst(JavaProject.class).map(JavaProject::getProjectName).orElse("");
+                    Expression name = MeterRegistrations.name(method);
+                    String meterName = MeterRegistrations.literalString(name);
+                    footprints.insertRow(ctx, new MeterFootprints.Row(
+                            getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getSourcePath().toString(),
+                            module,
+                            meterName != null ? meterName : name == null ? "" : name.printTrimmed(getCursor()),
+                            footprint.getMeterType(),
+                            footprint.getTagKeys(),
+                            footprint.getTagCombinations(),
+                            footprint.getDistribution(),
+                            footprint.getSeries(),
+                            footprint.getBytes()));
+                    acc.series.put(method.getId(), footprint.getSeries());
+                    acc.modules.computeIfAbsent(module, k -> new Totals()).add(footprint);
+                }
+                return super.visitMethodInvocation(method, ctx);
+            }
+        });
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        for (Map.Entry<String, Totals> module : acc.modules.entrySet()) {
+            Totals totals = module.getValue();
+            moduleFootprints.insertRow(ctx, new ModuleMeterFootprints.Row(module.getKey(), totals.meters, totals.series, totals.bytes));
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return RecipeInstrumentation.check(this, new UsesType<>(MeterRegistrations.METER_REGISTRY, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                Long series = acc.series.get(method.getId());
+                if (series == null) {
+                    return m;
+                }
+                RecipeInstrumentation.match(ctx, EstimateMeterFootprint.this);
+                return SearchResult.found(m, "~" + series + " series");
+            }
+        });
+    }
+
+    private Footprint estimate(J.MethodInvocation definition, String meterType, Cursor cursor) {
+        long unbounded = unboundedTagCardinality == null ? DEFAULT_UNBOUNDED_TAG_CARDINALITY : unboundedTagCardinality;
+        Tags tags = new Tags(cursor, unbounded);
+        tags.addPairs(MeterRegistrations.tagArguments(definition));
+        List<J.MethodInvocation> chain = new ArrayList<>();
+        J.MethodInvocation builder = MeterRegistrations.builder(definition);
+        if (builder != null) {
+            for (Expression select = definition.getSelect(); select != builder; select = ((J.MethodInvocation) select).getSelect()) {
+                J.MethodInvocation m = (J.MethodInvocation) select;
+                chain.add(m);
+                if ("tags".equals(m.getSimpleName())) {
+                    tags.addTags(m.getArguments());
+                }
+            }
+        } else if (!"register".equals(definition.getSimpleName()) && definition.getArguments().size() > 1) {
+            // registry.counter/timer/summary/gauge*(name, Iterable<Tag>, ..)
+            Expression tagSet = definition.getArguments().get(1);
+            if (!TypeUtils.isString(tagSet.getType()) && TypeUtils.isAssignableTo("java.lang.Iterable", tagSet.getType())) {
+                tags.addTags(Collections.singletonList(tagSet));
+            }
+        }
+
+        int buckets = 0;
+        int slos = 0;
+        int percentiles = 0;
+        boolean histogram = false;
+        // timers bound their histograms by default, distribution summaries don't
+        boolean timer = "Timer".equals(meterType);
+        double minimum = timer ? TIMER_MINIMUM_NANOS : 1;
+        double maximum = timer ? TIMER_MAXIMUM_NANOS : Double.POSITIVE_INFINITY;
+        for (J.MethodInvocation m : chain) {
+            switch (m.getSimpleName()) {
+                case "publishPercentileHistogram":
+                    histogram = m.getArguments().get(0) instanceof J.Empty ||
+                                !(m.getArguments().get(0) instanceof J.Literal) ||
+                                Boolean.TRUE.equals(((J.Literal) m.getArguments().get(0)).getValue());
+                    break;
+                case "serviceLevelObjectives":
+                case "sla":
+                    slos = m.getArguments().size();
+                    break;
+                case "publishPercentiles":
+                    percentiles = m.getArguments().get(0) instanceof J.Empty ? 0 : m.getArguments().size();
+                    break;
+                case "minimumExpectedValue":
+                    minimum = expectedValue(m.getArguments().get(0), minimum);
+                    break;
+                case "maximumExpectedValue":
+                    maximum = expectedValue(m.getArguments().get(0), maximum);
+                    break;
+            }
+        }
+        if (histogram) {
+            // service level objectives become extra buckets, and every histogram ends in a +Inf bucket
+            buckets = PercentileHistogramBuckets.count(minimum, maximum) + slos + 1;
+        } else if (slos > 0) {
+            buckets = slos + 1;
+        }
+
+        StringJoiner distribution = new StringJoiner(", ");
+        if (histogram) {
+            distribution.add(buckets + " histogram buckets");
+        }
+        if (slos > 0) {
+            distribution.add(slos + (slos == 1 ? " service level objective" : " service level objectives"));
+        }
+        if (percentiles > 0) {
+            distribution.add(percentiles + (percentiles == 1 ? " percentile" : " percentiles"));
+        }
+
+        long seriesPerCombination = baseSeries(meterType) + buckets + percentiles;
+        long bytesPerCombination = METER_BYTES + TAG_BYTES * tags.keys + BUCKET_BYTES * buckets +
+                                   (percentiles > 0 ? PERCENTILES_BYTES : 0);
+        return new Footprint(meterType, tags.keys, tags.combinations, distribution.toString(),
+                TagCardinality.saturatedMultiply(seriesPerCombination, tags.combinations),
+                TagCardinality.saturatedMultiply(bytesPerCombination, tags.combinations));
+    }
+
+    /**
+     * @return The series a meter publishes per tag combination before any distribution: the count, total and max
+     * of timers, summaries and long task timers, the count and total of function timers, and one value otherwise.
+     */
+    private static int baseSeries(String meterType) {
+        switch (meterType) {
+            case "Timer":
+            case "DistributionSummary":
+            case "LongTaskTimer":
+                return 3;
+            case "FunctionTimer":
+                return 2;
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * @return The number of tags in a constant {@code Tags.of(..)}, {@code Tags.and(..)} or {@code Tag.of(..)}, counting
+     * a constant field as one.
+     */
+    private static int constantTagKeys(Expression tags) {
+        if (!(tags instanceof J.MethodInvocation)) {
+            return 1;
+        }
+        J.MethodInvocation m = (J.MethodInvocation) tags;
+        if (TypeUtils.isOfClassType(m.getType(), MeterRegistrations.TAG)) {
+            return 1;
+        }
+        int keys = m.getSelect() instanceof J.MethodInvocation ? constantTagKeys(m.getSelect()) : 0;
+        int strings = 0;
+        for (Expression argument : m.getArguments()) {
+            if (TypeUtils.isString(argument.getType())) {
+                strings++;
+            } else if (!(argument instanceof J.Empty)) {
+                keys += constantTagKeys(argument);
+            }
+        }
+        return keys + strings / 2;
+    }
+
+    /**
+     * @return The value of a {@code minimumExpectedValue} or {@code maximumExpectedValue} argument, a number or a
+     * {@code Duration.ofX(n)} in nanoseconds, or the default when it isn't a literal.
+     */
+    private static double expectedValue(Expression argument, double defaultValue) {
+        if (argument instanceof J.Literal && ((J.Literal) argument).getValue() instanceof Number) {
+            return ((Number) ((J.Literal) argument).getValue()).doubleValue();
+        }
+        if (argument instanceof J.MethodInvocation && TypeUtils.isOfClassType(argument.getType(), "java.time.Duration")) {
+            J.MethodInvocation duration = (J.MethodInvocation) argument;
+            if (duration.getArguments().size() == 1 && duration.getArguments().get(0) instanceof J.Literal &&
+                ((J.Literal) duration.getArguments().get(0)).getValue() instanceof Number) {
+                long amount = ((Number) ((J.Literal) duration.getArguments().get(0)).getValue()).longValue();
+                ChronoUnit unit = durationUnit(duration.getSimpleName());
+                if (unit != null) {
+                    return (double) amount * unit.getDuration().toNanos();
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    private static @Nullable ChronoUnit durationUnit(String factory) {
+        switch (factory) {
+            case "ofNanos":
+                return ChronoUnit.NANOS;
+            case "ofMillis":
+                return ChronoUnit.MILLIS;
+            case "ofSeconds":
+                return ChronoUnit.SECONDS;
+            case "ofMinutes":
+                return ChronoUnit.MINUTES;
+            case "ofHours":
+                return ChronoUnit.HOURS;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * The tag keys of a meter and the estimated number of combinations of their values.
+     */
+    private static class Tags {
+        final Cursor cursor;
+        final long unbounded;
+        int keys;
+        long combinations = 1;
+
+        Tags(Cursor cursor, long unbounded) {
+            this.cursor = cursor;
+            this.unbounded = unbounded;
+        }
+
+        void addPairs(List<Expression> keysAndValues) {
+            for (int i = 1; i < keysAndValues.size(); i += 2) {
+                add(TagCardinality.estimate(keysAndValues.get(i), cursor, unbounded));
+            }
+        }
+
+        /**
+         * @param arguments The arguments of {@code tags(..)}: alternating keys and values, or collections of tags.
+         */
+        void addTags(List<Expression> arguments) {
+            if (arguments.size() > 1 && arguments.stream().allMatch(a -> TypeUtils.isString(a.getType()))) {
+                addPairs(arguments);
+                return;
+            }
+            for (Expression tagSet : arguments) {
+                if (tagSet instanceof J.Empty) {
+                    continue;
+                }
+                if (MeterRegistrations.isConstantTags(tagSet) || MeterRegistrations.isConstant(tagSet)) {
+                    keys += constantTagKeys(tagSet);
+                } else {
+                    // a collection of tags built at runtime counts as one tag of unbounded values
+                    add(unbounded);
+                }
+            }
+        }
+
+        private void add(long values) {
+            keys++;
+            combinations = TagCardinality.saturatedMultiply(combinations, values);
+        }
+    }
+
+    public static class Accumulator {
+        final Map<UUID, Long> series = new ConcurrentHashMap<>();
+        final Map<String, Totals> modules = new ConcurrentSkipListMap<>();
+    }
+
+    static class Totals {
+        int meters;
+        long series;
+        long bytes;
+
+        synchronized void add(Footprint footprint) {
+            meters++;
+            series = TagCardinality.saturatedAdd(series, footprint.getSeries());
+            bytes = TagCardinality.saturatedAdd(bytes, footprint.getBytes());
+        }
+    }
+
+    @Value
+    static class Footprint {
+        String meterType;
+        int tagKeys;
+        long tagCombinations;
+        String distribution;
+        long series;
+        long bytes;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.micrometer.table.ExpensiveGaugeFunctions;
+
+import java.util.*;
+
+public class FindExpensiveGaugeFunctions extends Recipe {
+    private static final String CALL_GRAPH = "CALL_GRAPH";
+    private static final Map<MethodMatcher, String> VALUE_FUNCTION_METERS = new LinkedHashMap<>();
+    private static final Map<String, String> EXPENSIVE_PACKAGES = new LinkedHashMap<>();
+    private static final Set<String> CHEAP_TYPES = new HashSet<>(Arrays.asList(
+            "java.io.IOException", "java.io.UncheckedIOException", "java.net.URI"));
+
+    static {
+        VALUE_FUNCTION_METERS.put(new MethodMatcher("io.micrometer.core.instrument.Gauge builder(String, ..)"), "Gauge");
+        VALUE_FUNCTION_METERS.put(new MethodMatcher("io.micrometer.core.instrument.TimeGauge builder(String, ..)"), "TimeGauge");
+        VALUE_FUNCTION_METERS.put(new MethodMatcher("io.micrometer.core.instrument.FunctionCounter builder(String, ..)"), "FunctionCounter");
+        VALUE_FUNCTION_METERS.put(new MethodMatcher(MeterRegistrations.METER_REGISTRY + " gauge(String, ..)"), "Gauge");
+        VALUE_FUNCTION_METERS.put(new MethodMatcher("io.micrometer.core.instrument.Metrics gauge(String, ..)"), "Gauge");
+        VALUE_FUNCTION_METERS.put(new MethodMatcher(MeterRegistrations.METER_REGISTRY + "$More timeGauge(String, ..)"), "TimeGauge");
+        VALUE_FUNCTION_METERS.put(new MethodMatcher(MeterRegistrations.METER_REGISTRY + "$More counter(String, ..)"), "FunctionCounter");
+
+        EXPENSIVE_PACKAGES.put("java.sql.", "JDBC");
+        EXPENSIVE_PACKAGES.put("javax.sql.", "JDBC");
+        EXPENSIVE_PACKAGES.put("org.springframework.jdbc.", "JDBC");
+        EXPENSIVE_PACKAGES.put("javax.persistence.", "JDBC");
+        EXPENSIVE_PACKAGES.put("jakarta.persistence.", "JDBC");
+        EXPENSIVE_PACKAGES.put("java.io.", "file");
+        EXPENSIVE_PACKAGES.put("java.nio.file.", "file");
+        EXPENSIVE_PACKAGES.put("java.nio.channels.", "file");
+        EXPENSIVE_PACKAGES.put("java.net.", "HTTP");
+        EXPENSIVE_PACKAGES.put("org.springframework.web.client.", "HTTP");
+        EXPENSIVE_PACKAGES.put("org.springframework.web.reactive.function.client.", "HTTP");
+        EXPENSIVE_PACKAGES.put("okhttp3.", "HTTP");
+        EXPENSIVE_PACKAGES.put("org.apache.http.", "HTTP");
+        EXPENSIVE_PACKAGES.put("org.apache.hc.", "HTTP");
+    }
+
+    transient ExpensiveGaugeFunctions expensiveFunctions = new ExpensiveGaugeFunctions(this);
+
+    @Getter
+    final String displayName = "Find gauges with expensive value functions";
+
+    @Getter
+    final String description = "Find the value functions of gauges, time gauges and function counters that reach JDBC, " +
+                               "file, network or `synchronized` code, directly or through methods of the same compilation " +
+                               "unit. These functions are evaluated on every scrape or publish.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return RecipeInstrumentation.check(this, InstrumentationTypesInUse.uses(InstrumentationTypesInUse.Library.MICROMETER), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                String meterType = meterType(method);
+                if (meterType == null) {
+                    return m;
+                }
+                Cursor sourceFile = getCursor().dropParentUntil(JavaSourceFile.class::isInstance);
+                CallGraph callGraph = sourceFile.computeMessageIfAbsent(CALL_GRAPH,
+                        k -> new CallGraph(sourceFile.getValue()));
+                Expression name = method.getArguments().get(0);
+                String meterName = MeterRegistrations.literalString(name);
+                return m.withArguments(ListUtils.map(m.getArguments(), argument -> {
+                    Finding finding = argument instanceof J.Lambda || argument instanceof J.MemberReference ?
+                            callGraph.reaches(argument) : null;
+                    if (finding == null) {
+                        return argument;
+                    }
+                    expensiveFunctions.insertRow(ctx, new ExpensiveGaugeFunctions.Row(
+                            sourceFile.<JavaSourceFile>getValue().getSourcePath().toString(),
+                            meterName == null ? name.printTrimmed(getCursor()) : meterName,
+                            meterType,
+                            finding.getCategory(),
+                            finding.getCallPath()));
+                    RecipeInstrumentation.match(ctx, FindExpensiveGaugeFunctions.this);
+                    return SearchResult.found(argument, finding.getCategory() + " via " + finding.getCallPath());
+                }));
+            }
+        });
+    }
+
+    private static @Nullable String meterType(J.MethodInvocation method) {
+        for (Map.Entry<MethodMatcher, String> meter : VALUE_FUNCTION_METERS.entrySet()) {
+            if (meter.getKey().matches(method)) {
+                return meter.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The category of expensive code a method belongs to, from its declaring type's package or its being
+     * {@code synchronized}, or null when it is not expensive. Exceptions and {@code URI} are cheap despite their package.
+     */
+    private static @Nullable String category(JavaType.Method method) {
+        String declaringType = method.getDeclaringType().getFullyQualifiedName();
+        if (CHEAP_TYPES.contains(declaringType)) {
+            return null;
+        }
+        for (Map.Entry<String, String> expensive : EXPENSIVE_PACKAGES.entrySet()) {
+            if (declaringType.startsWith(expensive.getKey())) {
+                return expensive.getValue();
+            }
+        }
+        return method.hasFlags(Flag.Synchronized) ? "synchronized" : null;
+    }
+
+    private static String key(JavaType.Method method) {
+        return method.getDeclaringType().getFullyQualifiedName() + "#" + method.getName() + "/" + method.getParameterTypes().size();
+    }
+
+    /**
+     * The methods declared in a compilation unit, followed from a value function to the expensive code they reach.
+     * Indexed once per compilation unit, when its first gauge is found.
+     */
+    private static class CallGraph {
+        final Map<String, J.MethodDeclaration> declarations = new HashMap<>();
+
+        CallGraph(JavaSourceFile sourceFile) {
+            new JavaIsoVisitor<Integer>() {
+                @Override
+                public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Integer p) {
+                    if (method.getMethodType() != null && method.getBody() != null) {
+                        declarations.put(key(method.getMethodType()), method);
+                    }
+                    return super.visitMethodDeclaration(method, p);
+                }
+            }.visit(sourceFile, 0);
+        }
+
+        @Nullable Finding reaches(J function) {
+            return reaches(function, new ArrayDeque<>(), new HashSet<>());
+        }
+
+        private @Nullable Finding reaches(J tree, Deque<String> path, Set<String> visiting) {
+            Finding[] finding = new Finding[1];
+            new JavaIsoVisitor<Integer>() {
+                @Override
+                public @Nullable J visit(@Nullable Tree t, Integer p) {
+                    return finding[0] == null ? super.visit(t, p) : (J) t;
+                }
+
+                @Override
+                public J.Synchronized visitSynchronized(J.Synchronized sync, Integer p) {
+                    finding[0] = found("synchronized", "synchronized block");
+                    return sync;
+                }
+
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                    call(method.getMethodType());
+                    return super.visitMethodInvocation(method, p);
+                }
+
+                @Override
+                public J.MemberReference visitMemberReference(J.MemberReference memberRef, Integer p) {
+                    call(memberRef.getMethodType());
+                    return super.visitMemberReference(memberRef, p);
+                }
+
+                @Override
+                public J.NewClass visitNewClass(J.NewClass newClass, Integer p) {
+                    call(newClass.getMethodType());
+                    return super.visitNewClass(newClass, p);
+                }
+
+                private void call(JavaType.@Nullable Method method) {
+                    if (method == null || finding[0] != null) {
+                        return;
+                    }
+                    String callee = "<constructor>".equals(method.getName()) ?
+                            "new " + method.getDeclaringType().getClassName() :
+                            method.getDeclaringType().getClassName() + "." + method.getName();
+                    String category = category(method);
+                    if (category != null) {
+                        finding[0] = found(category, callee);
+                        return;
+                    }
+                    J.MethodDeclaration declaration = declarations.get(key(method));
+                    if (declaration != null && visiting.add(key(method))) {
+                        if (declaration.hasModifier(J.Modifier.Type.Synchronized)) {
+                            finding[0] = found("synchronized", callee);
+                            return;
+                        }
+                        path.addLast(method.getName());
+                        finding[0] = reaches(Objects.requireNonNull(declaration.getBody()), path, visiting);
+                        path.removeLast();
+                    }
+                }
+
+                private Finding found(String category, String expensive) {
+                    List<String> callPath = new ArrayList<>(path);
+                    callPath.add(expensive);
+                    return new Finding(category, String.join(" -> ", callPath));
+                }
+            }.visit(tree, 0);
+            return finding[0];
+        }
+    }
+
+    @Value
+    private static class Finding {
+        String category;
+        String callPath;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.micrometer.table.MeterRegistrationsInHotPaths;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+public class FindMeterRegistrationsInHotPaths extends Recipe {
+    private static final List<String> JAX_RS_METHODS = Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "HEAD", "OPTIONS");
+
+    transient MeterRegistrationsInHotPaths registrations = new MeterRegistrationsInHotPaths(this);
+
+    @Getter
+    final String displayName = "Find meter registrations in hot paths";
+
+    @Getter
+    final String description = "Find `MeterRegistry` meter lookups and `builder(..).register(..)` chains inside loops, lambdas, " +
+                               "stream pipelines and request mapping methods, where they run once per event rather than once.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return RecipeInstrumentation.check(this, InstrumentationTypesInUse.uses(InstrumentationTypesInUse.Library.MICROMETER), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                String meterType = MeterRegistrations.definedMeterType(method);
+                String hotPath = meterType == null ? null : hotPath(getCursor());
+                if (hotPath == null) {
+                    return m;
+                }
+                J.ClassDeclaration classDecl = getCursor().firstEnclosing(J.ClassDeclaration.class);
+                J.MethodDeclaration methodDecl = getCursor().firstEnclosing(J.MethodDeclaration.class);
+                registrations.insertRow(ctx, new MeterRegistrationsInHotPaths.Row(
+                        getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getSourcePath().toString(),
+                        (classDecl == null ? "" : classDecl.getSimpleName()) + (methodDecl == null ? "" : "#" + methodDecl.getSimpleName()),
+                        hotPath,
+                        meterType.substring(meterType.lastIndexOf('.') + 1),
+                        method.printTrimmed(getCursor().getParentTreeCursor())
+                ));
+                RecipeInstrumentation.match(ctx, FindMeterRegistrationsInHotPaths.this);
+                return SearchResult.found(m, hotPath);
+            }
+        });
+    }
+
+    /**
+     * @return The innermost construct around a registration that makes it run more than once, looking no further
+     * than the enclosing method, or null when there is none.
+     */
+    private static @Nullable String hotPath(Cursor registration) {
+        Object child = registration.getValue();
+        for (Iterator<Cursor> it = registration.getParentTreeCursor().getPathAsCursors(); it.hasNext(); ) {
+            Cursor cursor = it.next();
+            Object value = cursor.getValue();
+            if (!(value instanceof J)) {
+                continue;
+            }
+            if (value instanceof J.ForLoop && !(child instanceof J.ForLoop.Control)) {
+                return "for";
+            } else if (value instanceof J.ForEachLoop && !(child instanceof J.ForEachLoop.Control)) {
+                return "for-each";
+            } else if (value instanceof J.WhileLoop) {
+                return "while";
+            } else if (value instanceof J.DoWhileLoop) {
+                return "do-while";
+            } else if (value instanceof J.Lambda) {
+                Object call = cursor.getParentTreeCursor().getValue();
+                return call instanceof J.MethodInvocation && isStream(((J.MethodInvocation) call).getSelect()) ? "stream" : "lambda";
+            } else if (value instanceof J.MethodDeclaration) {
+                return isRequestMapping((J.MethodDeclaration) value) ? "request mapping" : null;
+            } else if (value instanceof J.ClassDeclaration || value instanceof J.NewClass && ((J.NewClass) value).getBody() != null) {
+                return null;
+            }
+            child = value;
+        }
+        return null;
+    }
+
+    private static boolean isStream(@Nullable Expression select) {
+        return select != null && TypeUtils.isAssignableTo("java.util.stream.BaseStream", select.getType());
+    }
+
+    private static boolean isRequestMapping(J.MethodDeclaration method) {
+        for (J.Annotation annotation : method.getLeadingAnnotations()) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+            if (type == null) {
+                continue;
+            }
+            String packageName = type.getPackageName();
+            if ("org.springframework.web.bind.annotation".equals(packageName) && type.getClassName().endsWith("Mapping") ||
+                ("javax.ws.rs".equals(packageName) || "jakarta.ws.rs".equals(packageName)) &&
+                JAX_RS_METHODS.contains(type.getClassName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
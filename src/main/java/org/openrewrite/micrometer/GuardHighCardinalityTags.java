@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Value;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.marker.JavaProject;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.Statement;
+import org.openrewrite.micrometer.table.MaximumAllowableTagsGuards;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class GuardHighCardinalityTags extends ScanningRecipe<GuardHighCardinalityTags.Accumulator> {
+    private static final String METER_FILTER = "io.micrometer.core.instrument.config.MeterFilter";
+    private static final MethodMatcher MAXIMUM_ALLOWABLE_TAGS = new MethodMatcher(METER_FILTER + " maximumAllowableTags(String, String, int, ..)");
+
+    transient MaximumAllowableTagsGuards guards = new MaximumAllowableTagsGuards(this);
+
+    @Option(displayName = "Limit",
+            description = "The maximum number of distinct values of an unbounded tag to keep per meter. Meters with " +
+                          "further values are denied.",
+            example = "100")
+    Integer limit;
+
+    @Getter
+    String displayName = "Guard meters with high cardinality tags";
+
+    @Getter
+    String description = "Where a meter is tagged with a value from unbounded input, such as a request path or a customer " +
+                         "identifier, add `MeterFilter.maximumAllowableTags(name, key, limit, MeterFilter.deny())` to its " +
+                         "registry where the registry is constructed, so the tag can't grow the registry without bound.";
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(Validated.test("limit", "Must be positive", limit, l -> l != null && l > 0));
+    }
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return Preconditions.check(new UsesType<>(MeterRegistrations.METER_REGISTRY, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                if (MAXIMUM_ALLOWABLE_TAGS.matches(method)) {
+                    String name = MeterRegistrations.literalString(method.getArguments().get(0));
+                    String key = MeterRegistrations.literalString(method.getArguments().get(1));
+                    if (name != null && key != null) {
+                        acc.existing.add(project(getCursor()) + " " + new Guard(name, key, ""));
+                    }
+                } else if (MeterRegistrations.registeredMeterType(method) != null) {
+                    String registry = MeterRegistrations.variableKey(MeterRegistrations.registry(method));
+                    String name = MeterRegistrations.literalString(MeterRegistrations.name(method));
+                    if (registry != null && name != null) {
+                        List<Expression> tags = MeterRegistrations.tagArguments(method);
+                        for (int i = 0; i + 1 < tags.size(); i += 2) {
+                            String key = MeterRegistrations.literalString(tags.get(i));
+                            String reason = key == null ? null : TagCardinality.unboundedBecause(tags.get(i + 1), getCursor());
+                            if (reason != null) {
+                                acc.guards.computeIfAbsent(project(getCursor()) + " " + registry, k -> new ConcurrentSkipListSet<>(Guard.ORDER))
+                                        .add(new Guard(name, key, reason));
+                            }
+                        }
+                    }
+                }
+                return super.visitMethodInvocation(method, ctx);
+            }
+        });
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return RecipeInstrumentation.check(this, new UsesType<>(MeterRegistrations.METER_REGISTRY, false), new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.Block visitBlock(J.Block block, ExecutionContext ctx) {
+                J.Block b = super.visitBlock(block, ctx);
+                Object parent = getCursor().getParentTreeCursor().getValue();
+                if (parent instanceof J.ClassDeclaration || parent instanceof J.NewClass) {
+                    return b;
+                }
+                for (Statement statement : b.getStatements()) {
+                    Expression registry = MeterRegistrations.constructedRegistry(statement);
+                    String key = MeterRegistrations.variableKey(registry);
+                    Set<Guard> guardsForRegistry = key == null ? null : acc.guards.get(project(getCursor()) + " " + key);
+                    if (guardsForRegistry == null) {
+                        continue;
+                    }
+                    List<Guard> reversed = new ArrayList<>(guardsForRegistry);
+                    Collections.reverse(reversed);
+                    for (Guard guard : reversed) {
+                        // in reverse, so that guards inserted after the same statement end up in order
+                        if (acc.existing.contains(project(getCursor()) + " " + guard)) {
+                            continue;
+                        }
+                        b = JavaTemplate.builder(registry.printTrimmed(getCursor()) + ".config().meterFilter(" +
+                                                 "MeterFilter.maximumAllowableTags(#{}, #{}, #{}, MeterFilter.deny()));")
+                                .contextSensitive()
+                                .javaParser(ParserCache.get(ctx).classpathFromResources(ctx, "micrometer-core"))
+                                .imports(METER_FILTER)
+                                .build()
+                                .apply(updateCursor(b), statement.getCoordinates().after(),
+                                        quote(guard.getMeterName()), quote(guard.getTagKey()), limit);
+                        maybeAddImport(METER_FILTER);
+                        guards.insertRow(ctx, new MaximumAllowableTagsGuards.Row(
+                                getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getSourcePath().toString(),
+                                guard.getMeterName(),
+                                guard.getTagKey(),
+                                limit,
+                                guard.getReason()));
+                        RecipeInstrumentation.match(ctx, GuardHighCardinalityTags.this);
+                    }
+                }
+                return b;
+            }
+        });
+    }
+
+    private static String project(Cursor cursor) {
+        return cursor.firstEnclosingOrThrow(SourceFile.class).getMarkers()
+                .findFirst(JavaProject.class).map(JavaProject::getProjectName).orElse("");
+    }
+
+    private static String quote(String s) {
+        return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    public static class Accumulator {
+        /**
+         * The guards to add, by project and registry variable, ordered by meter name and tag key whatever the order
+         * the source files were scanned in.
+         */
+        final Map<String, Set<Guard>> guards = new ConcurrentHashMap<>();
+
+        /**
+         * The guards already configured, by project.
+         */
+        final Set<String> existing = ConcurrentHashMap.newKeySet();
+    }
+
+    @Value
+    static class Guard {
+        static final Comparator<Guard> ORDER = Comparator.comparing(Guard::getMeterName).thenComparing(Guard::getTagKey);
+
+        String meterName;
+        String tagKey;
+
+        @EqualsAndHashCode.Exclude
+        String reason;
+
+        @Override
+        public String toString() {
+            return meterName + " " + tagKey;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.J;
+
+public class HoistMeterRegistration extends Recipe {
+
+    @Getter
+    final String displayName = "Hoist meter registration into fields";
+
+    @Getter
+    final String description = "Move registrations of counters, timers and distribution summaries with a constant name and " +
+                               "constant tags out of method bodies into `private final` fields, initialized at construction " +
+                               "time. This removes a builder allocation, a `Meter.Id` build and a registry lookup from every call.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return RecipeInstrumentation.check(this, new UsesType<>(MeterRegistrations.METER_REGISTRY, false), new MeterFieldHoister(this) {
+            @Override
+            @Nullable Field hoist(J.MethodInvocation registration, String meterType, Cursor cursor) {
+                // a registration made only for its side effect would be left as a bare reference to the field
+                Object parent = cursor.getParentTreeCursor().getValue();
+                if (parent instanceof J.Block || parent instanceof J.Lambda ||
+                    !MeterRegistrations.hasConstantNameAndTags(registration)) {
+                    return null;
+                }
+                String simpleName = meterType.substring(meterType.lastIndexOf('.') + 1);
+                return new Field(
+                        registration.printTrimmed(cursor.getParentTreeCursor()),
+                        simpleName,
+                        new String[]{meterType},
+                        MeterRegistrations.identifier(MeterRegistrations.literalString(MeterRegistrations.name(registration))) + simpleName,
+                        "#{any(" + meterType + ")}",
+                        new Object[]{registration});
+            }
+
+            @Override
+            J replace(J.MethodInvocation registration, Field field, J.Identifier fieldReference, Cursor cursor, ExecutionContext ctx) {
+                return fieldReference.withPrefix(registration.getPrefix());
+            }
+        });
+    }
+}
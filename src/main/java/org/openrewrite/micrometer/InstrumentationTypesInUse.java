@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.marker.SearchResult;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+/**
+ * An index of the instrumentation libraries each source file refers to, built once per source file from its
+ * types in use and shared through the {@link ExecutionContext} by every recipe of a run that consults it.
+ */
+public final class InstrumentationTypesInUse {
+    private static final String INDEX = InstrumentationTypesInUse.class.getName();
+    private static final int MAXIMUM_SIZE = 1024;
+
+    public enum Library {
+        MICROMETER("io.micrometer."),
+        PROMETHEUS("io.prometheus."),
+        MISK("misk.metrics."),
+        DROPWIZARD("com.codahale.metrics.");
+
+        private final String packagePrefix;
+
+        Library(String packagePrefix) {
+            this.packagePrefix = packagePrefix;
+        }
+    }
+
+    private final Map<UUID, Entry> entries = new LinkedHashMap<UUID, Entry>(MAXIMUM_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+            return size() > MAXIMUM_SIZE;
+        }
+    };
+
+    private InstrumentationTypesInUse() {
+    }
+
+    /**
+     * @return The instrumentation libraries the source file refers to.
+     */
+    public static Set<Library> of(JavaSourceFile sourceFile, ExecutionContext ctx) {
+        return ctx.computeMessageIfAbsent(INDEX, k -> new InstrumentationTypesInUse()).get(sourceFile);
+    }
+
+    /**
+     * A precondition that finds Java source files referring to any of the given libraries.
+     */
+    public static TreeVisitor<?, ExecutionContext> uses(Library... libraries) {
+        return new UsesLibrary(EnumSet.copyOf(Arrays.asList(libraries)));
+    }
+
+    private synchronized Set<Library> get(JavaSourceFile sourceFile) {
+        // a source file keeps its id when a recipe changes it, so the entry is only reused for the same tree
+        Entry entry = entries.get(sourceFile.getId());
+        if (entry == null || entry.sourceFile.get() != sourceFile) {
+            entry = new Entry(new WeakReference<>(sourceFile), index(sourceFile));
+            entries.put(sourceFile.getId(), entry);
+        }
+        return entry.libraries;
+    }
+
+    private static Set<Library> index(JavaSourceFile sourceFile) {
+        Set<Library> libraries = EnumSet.noneOf(Library.class);
+        for (JavaType type : sourceFile.getTypesInUse().getTypesInUse()) {
+            if (type instanceof JavaType.FullyQualified) {
+                String fqn = ((JavaType.FullyQualified) type).getFullyQualifiedName();
+                for (Library library : Library.values()) {
+                    if (fqn.startsWith(library.packagePrefix)) {
+                        libraries.add(library);
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableSet(libraries);
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        final WeakReference<JavaSourceFile> sourceFile;
+        final Set<Library> libraries;
+    }
+
+    @RequiredArgsConstructor
+    private static class UsesLibrary extends TreeVisitor<Tree, ExecutionContext> {
+        private final Set<Library> libraries;
+
+        @Override
+        public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+            if (tree instanceof JavaSourceFile) {
+                for (Library library : of((JavaSourceFile) tree, ctx)) {
+                    if (libraries.contains(library)) {
+                        return SearchResult.found(tree);
+                    }
+                }
+            }
+            return tree;
+        }
+    }
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Moves meter registrations made from instance methods against a {@code final} {@code MeterRegistry} field
+ * into {@code private final} fields of the same class, initialized at construction time. Subclasses decide
+ * which registrations move, what the field holds and what each call site becomes.
+ */
+abstract class MeterFieldHoister extends JavaVisitor<ExecutionContext> {
+    private static final String HOISTED = "HOISTED";
+
+    private final Recipe recipe;
+
+    MeterFieldHoister(Recipe recipe) {
+        this.recipe = recipe;
+    }
+
+    /**
+     * @param registration A registration of {@code meterType} against a final registry field.
+     * @return The field this registration can be moved to, or null to leave it in place.
+     */
+    abstract @Nullable Field hoist(J.MethodInvocation registration, String meterType, Cursor cursor);
+
+    /**
+     * @return What the call site of a hoisted registration becomes, once the field referred to by {@code fieldReference}
+     * has been declared.
+     */
+    abstract J replace(J.MethodInvocation registration, Field field, J.Identifier fieldReference, Cursor cursor, ExecutionContext ctx);
+
+    @Override
+    public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+        Map<UUID, HoistedField> sites = findHoistable(classDecl, getCursor());
+        if (sites.isEmpty()) {
+            getCursor().putMessage(HOISTED, sites);
+            return super.visitClassDeclaration(classDecl, ctx);
+        }
+
+        J.ClassDeclaration cd = classDecl;
+        List<HoistedField> reversed = new ArrayList<>(new LinkedHashSet<>(sites.values()));
+        Collections.reverse(reversed);
+        for (HoistedField hoisted : reversed) {
+            // inserted right after the registry field, in reverse so that they end up in the order found
+            Field field = hoisted.field;
+            cd = JavaTemplate.builder("private final " + field.type + " " + hoisted.name +
+                                      (hoisted.initializeInline ? " = " + field.initializer : "") + ";")
+                    .contextSensitive()
+                    .javaParser(ParserCache.get(ctx).classpathFromResources(ctx, "micrometer-core"))
+                    .imports(field.imports)
+                    .build()
+                    .apply(updateCursor(cd), registryField(cd, hoisted.registryField).getCoordinates().after(),
+                            hoisted.initializeInline ? field.parameters : new Object[0]);
+            for (String anImport : field.imports) {
+                maybeAddImport(anImport);
+            }
+            RecipeInstrumentation.match(ctx, recipe);
+        }
+
+        updateCursor(cd);
+        getCursor().putMessage(HOISTED, sites);
+        return super.visitClassDeclaration(cd, ctx);
+    }
+
+    @Override
+    public J visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
+        J.MethodDeclaration md = (J.MethodDeclaration) super.visitMethodDeclaration(method, ctx);
+        Map<UUID, HoistedField> sites = getCursor().getNearestMessage(HOISTED);
+        if (!md.isConstructor() || md.getBody() == null || sites == null || sites.isEmpty() || delegates(md)) {
+            return md;
+        }
+        Set<String> declared = declaredNames(method);
+        for (HoistedField hoisted : new LinkedHashSet<>(sites.values())) {
+            if (!hoisted.initializeInline) {
+                // a constructor parameter named like the registry field would otherwise be registered against
+                Object[] parameters = declared.contains(hoisted.registryField) ?
+                        qualify(hoisted.field.parameters, hoisted.registryField, getCursor().firstEnclosing(J.ClassDeclaration.class)) :
+                        hoisted.field.parameters;
+                md = JavaTemplate.builder("this." + hoisted.name + " = " + hoisted.field.initializer + ";")
+                        .contextSensitive()
+                        .javaParser(ParserCache.get(ctx).classpathFromResources(ctx, "micrometer-core"))
+                        .build()
+                        .apply(updateCursor(md), Objects.requireNonNull(md.getBody()).getCoordinates().lastStatement(),
+                                parameters);
+            }
+        }
+        return md;
+    }
+
+    @Override
+    public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+        Map<UUID, HoistedField> sites = getCursor().getNearestMessage(HOISTED);
+        HoistedField hoisted = sites == null ? null : sites.get(method.getId());
+        // the initializer of the new field is the registration itself, which stays as it is
+        if (hoisted != null && getCursor().firstEnclosing(J.MethodDeclaration.class) != null) {
+            J.ClassDeclaration classDecl = getCursor().firstEnclosingOrThrow(J.ClassDeclaration.class);
+            J.Identifier fieldReference = declaredField(classDecl, hoisted.name).getName()
+                    .withId(Tree.randomId())
+                    .withPrefix(Space.EMPTY);
+            return replace(method, hoisted.field, fieldReference, getCursor(), ctx);
+        }
+        return super.visitMethodInvocation(method, ctx);
+    }
+
+    /**
+     * @return A copy of the template parameters with every unqualified reference to the registry field
+     * qualified with {@code this}.
+     */
+    private static Object[] qualify(Object[] parameters, String registryField, J.@Nullable ClassDeclaration classDecl) {
+        JavaType.FullyQualified classType = classDecl == null ? null : classDecl.getType();
+        JavaVisitor<Integer> qualifier = new JavaVisitor<Integer>() {
+            @Override
+            public J visitFieldAccess(J.FieldAccess fieldAccess, Integer p) {
+                // the name of a field access is already qualified by its target
+                return fieldAccess.withTarget((Expression) visitNonNull(fieldAccess.getTarget(), p));
+            }
+
+            @Override
+            public J visitIdentifier(J.Identifier identifier, Integer p) {
+                if (!identifier.getSimpleName().equals(registryField) || identifier.getFieldType() == null) {
+                    return identifier;
+                }
+                return new J.FieldAccess(Tree.randomId(), identifier.getPrefix(), Markers.EMPTY,
+                        new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), "this", classType, null),
+                        JLeftPadded.build(identifier.withPrefix(Space.EMPTY)),
+                        identifier.getType());
+            }
+        };
+        Object[] qualified = parameters.clone();
+        for (int i = 0; i < qualified.length; i++) {
+            if (qualified[i] instanceof J) {
+                qualified[i] = qualifier.visitNonNull((J) qualified[i], 0);
+            }
+        }
+        return qualified;
+    }
+
+    /**
+     * @return The names of the parameters and local variables declared in a method.
+     */
+    private static Set<String> declaredNames(J.MethodDeclaration method) {
+        Set<String> names = new HashSet<>();
+        new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Set<String> n) {
+                n.add(variable.getSimpleName());
+                return super.visitVariable(variable, n);
+            }
+        }.visit(method, names);
+        return names;
+    }
+
+    /**
+     * @return The names of the variables referred to by the template parameters, other than through a field access.
+     */
+    private static Set<String> referencedNames(Object[] parameters) {
+        Set<String> names = new HashSet<>();
+        JavaIsoVisitor<Set<String>> references = new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, Set<String> n) {
+                visit(fieldAccess.getTarget(), n);
+                return fieldAccess;
+            }
+
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, Set<String> n) {
+                if (identifier.getFieldType() != null) {
+                    n.add(identifier.getSimpleName());
+                }
+                return identifier;
+            }
+        };
+        for (Object parameter : parameters) {
+            if (parameter instanceof J) {
+                references.visit((J) parameter, names);
+            }
+        }
+        return names;
+    }
+
+    private static boolean delegates(J.MethodDeclaration constructor) {
+        List<Statement> statements = Objects.requireNonNull(constructor.getBody()).getStatements();
+        return !statements.isEmpty() && statements.get(0) instanceof J.MethodInvocation &&
+               "this".equals(((J.MethodInvocation) statements.get(0)).getSimpleName());
+    }
+
+    /**
+     * @return The registrations in instance methods of this class, excluding nested and anonymous classes, that
+     * can be made once at construction time, keyed by the id of each call site.
+     */
+    private Map<UUID, HoistedField> findHoistable(J.ClassDeclaration classDecl, Cursor classCursor) {
+        // the names declared by the constructors that will initialize the fields of registries not initialized inline
+        Set<String> constructorNames = new HashSet<>();
+        boolean hasConstructor = false;
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.MethodDeclaration && ((J.MethodDeclaration) statement).isConstructor() &&
+                ((J.MethodDeclaration) statement).getBody() != null && !delegates((J.MethodDeclaration) statement)) {
+                hasConstructor = true;
+                constructorNames.addAll(declaredNames((J.MethodDeclaration) statement));
+            }
+        }
+
+        Map<String, Boolean> registryFields = new HashMap<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations) {
+                J.VariableDeclarations field = (J.VariableDeclarations) statement;
+                if (field.hasModifier(J.Modifier.Type.Final) && !field.hasModifier(J.Modifier.Type.Static) &&
+                    TypeUtils.isAssignableTo(MeterRegistrations.METER_REGISTRY, field.getType())) {
+                    for (J.VariableDeclarations.NamedVariable v : field.getVariables()) {
+                        // without an explicit constructor, such as when Lombok generates it, there is nowhere to
+                        // initialize a new field once the registry is assigned
+                        if (v.getInitializer() != null || hasConstructor) {
+                            registryFields.put(v.getSimpleName(), v.getInitializer() != null);
+                        }
+                    }
+                }
+            }
+        }
+        if (registryFields.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // every name declared anywhere in the class or inherited, so a new field is never shadowed where it is used
+        // and never hides a field of a superclass
+        Set<String> names = new HashSet<>(inheritedFieldNames(classDecl));
+        new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Set<String> n) {
+                n.add(variable.getSimpleName());
+                return super.visitVariable(variable, n);
+            }
+        }.visit(classDecl, names);
+
+        Map<String, HoistedField> byKey = new LinkedHashMap<>();
+        Map<UUID, HoistedField> sites = new HashMap<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (!(statement instanceof J.MethodDeclaration)) {
+                continue;
+            }
+            J.MethodDeclaration method = (J.MethodDeclaration) statement;
+            if (method.isConstructor() || method.hasModifier(J.Modifier.Type.Static) || method.getBody() == null) {
+                continue;
+            }
+            new JavaIsoVisitor<Integer>() {
+                @Override
+                public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration nested, Integer p) {
+                    return nested;
+                }
+
+                @Override
+                public J.NewClass visitNewClass(J.NewClass newClass, Integer p) {
+                    // an anonymous class body could declare a field shadowing the new one
+                    return newClass.getBody() == null ? super.visitNewClass(newClass, p) : newClass;
+                }
+
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation m, Integer p) {
+                    String meterType = MeterRegistrations.registeredMeterType(m);
+                    String registryField = meterType == null ? null :
+                            registryField(MeterRegistrations.registry(m), registryFields.keySet());
+                    Field field = registryField == null ? null : hoist(m, meterType, getCursor());
+                    if (field == null || !registryFields.get(registryField) &&
+                                         shadowedInConstructor(field, registryField, constructorNames)) {
+                        return super.visitMethodInvocation(m, p);
+                    }
+                    sites.put(m.getId(), byKey.computeIfAbsent(field.key, k -> new HoistedField(
+                            field,
+                            uniqueName(field.name, names),
+                            registryField,
+                            registryFields.get(registryField))));
+                    return m;
+                }
+            }.visit(method.getBody(), 0, new Cursor(new Cursor(classCursor, classDecl.getBody()), method));
+        }
+        return sites;
+    }
+
+    private static @Nullable String registryField(@Nullable Expression registry, Set<String> registryFields) {
+        if (registry instanceof J.FieldAccess && ((J.FieldAccess) registry).getTarget() instanceof J.Identifier &&
+            "this".equals(((J.Identifier) ((J.FieldAccess) registry).getTarget()).getSimpleName())) {
+            registry = ((J.FieldAccess) registry).getName();
+        }
+        if (registry instanceof J.Identifier && ((J.Identifier) registry).getFieldType() != null &&
+            registryFields.contains(((J.Identifier) registry).getSimpleName())) {
+            return ((J.Identifier) registry).getSimpleName();
+        }
+        return null;
+    }
+
+    /**
+     * @return Whether a constructor declares a variable with the name of something the field's initializer refers
+     * to, other than the registry field, which is qualified with {@code this} instead.
+     */
+    private static boolean shadowedInConstructor(Field field, String registryField, Set<String> constructorNames) {
+        for (String name : referencedNames(field.parameters)) {
+            if (!name.equals(registryField) && constructorNames.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> inheritedFieldNames(J.ClassDeclaration classDecl) {
+        Set<String> names = new HashSet<>();
+        JavaType.FullyQualified type = classDecl.getType();
+        for (JavaType.FullyQualified supertype = type == null ? null : type.getSupertype();
+             supertype != null; supertype = supertype.getSupertype()) {
+            for (JavaType.Variable member : supertype.getMembers()) {
+                names.add(member.getName());
+            }
+        }
+        if (type != null) {
+            for (JavaType.FullyQualified anInterface : type.getInterfaces()) {
+                for (JavaType.Variable member : anInterface.getMembers()) {
+                    names.add(member.getName());
+                }
+            }
+        }
+        return names;
+    }
+
+    private static String uniqueName(String name, Set<String> names) {
+        String unique = name;
+        for (int i = 2; names.contains(unique); i++) {
+            unique = name + i;
+        }
+        names.add(unique);
+        return unique;
+    }
+
+    private static J.VariableDeclarations registryField(J.ClassDeclaration classDecl, String name) {
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (statement instanceof J.VariableDeclarations) {
+                for (J.VariableDeclarations.NamedVariable v : ((J.VariableDeclarations) statement).getVariables()) {
+                    if (v.getSimpleName().equals(name)) {
+                        return (J.VariableDeclarations) statement;
+                    }
+                }
+            }
+        }
+        throw new IllegalStateException("Expected field " + name + " in " + classDecl.getSimpleName());
+    }
+
+    private static J.VariableDeclarations.NamedVariable declaredField(J.ClassDeclaration classDecl, String name) {
+        for (J.VariableDeclarations.NamedVariable v : registryField(classDecl, name).getVariables()) {
+            if (v.getSimpleName().equals(name)) {
+                return v;
+            }
+        }
+        throw new IllegalStateException("Expected field " + name + " in " + classDecl.getSimpleName());
+    }
+
+    /**
+     * A field to hoist registrations into. Registrations with the same {@code key} share one field.
+     */
+    @RequiredArgsConstructor
+    static final class Field {
+        final String key;
+
+        /**
+         * The declared type of the field, as written in source.
+         */
+        final String type;
+
+        final String[] imports;
+
+        /**
+         * The preferred name of the field, suffixed with a number when it's already taken.
+         */
+        final String name;
+
+        /**
+         * A template for the field's value.
+         */
+        final String initializer;
+
+        final Object[] parameters;
+    }
+
+    @RequiredArgsConstructor
+    private static final class HoistedField {
+        final Field field;
+        final String name;
+        final String registryField;
+        final boolean initializeInline;
+    }
+}
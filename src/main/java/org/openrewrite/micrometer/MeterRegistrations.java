@@ -0,0 +1,381 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.Flag;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.Statement;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Recognizes meter registrations, and the parts of them that are known at compile time.
+ */
+final class MeterRegistrations {
+    static final String METER_REGISTRY = "io.micrometer.core.instrument.MeterRegistry";
+    static final String TAGS = "io.micrometer.core.instrument.Tags";
+    static final String TAG = "io.micrometer.core.instrument.Tag";
+
+    private static final String[] METER_TYPES = {
+            "io.micrometer.core.instrument.Counter",
+            "io.micrometer.core.instrument.Timer",
+            "io.micrometer.core.instrument.DistributionSummary"
+    };
+
+    private static final MethodMatcher REGISTRY_METER = new MethodMatcher(METER_REGISTRY + " *(String, ..)");
+    private static final MethodMatcher REGISTRY_GAUGE = new MethodMatcher(METER_REGISTRY + " gauge*(String, ..)");
+
+    private MeterRegistrations() {
+    }
+
+    /**
+     * @return The fully qualified name of the type of meter registered by {@code register(registry)} on a
+     * {@code Counter}, {@code Timer} or {@code DistributionSummary} builder, or by
+     * {@code registry.counter/timer/summary(..)}. Null when this is not such a registration.
+     */
+    static @Nullable String registeredMeterType(J.MethodInvocation method) {
+        JavaType.Method methodType = method.getMethodType();
+        if (methodType == null) {
+            return null;
+        }
+        if ("register".equals(method.getSimpleName()) && method.getArguments().size() == 1) {
+            for (String meterType : METER_TYPES) {
+                if (TypeUtils.isOfClassType(methodType.getDeclaringType(), meterType + "$Builder")) {
+                    return meterType;
+                }
+            }
+            return null;
+        }
+        if (REGISTRY_METER.matches(method)) {
+            switch (method.getSimpleName()) {
+                case "counter":
+                    return METER_TYPES[0];
+                case "timer":
+                    return METER_TYPES[1];
+                case "summary":
+                    return METER_TYPES[2];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The fully qualified name of the type of any meter defined by this call: the registrations
+     * {@link #registeredMeterType(J.MethodInvocation)} recognizes, {@code registry.gauge*(..)}, and
+     * {@code builder(..)..register(registry)} chains of any meter type. Null when this defines no meter.
+     */
+    static @Nullable String definedMeterType(J.MethodInvocation method) {
+        String meterType = registeredMeterType(method);
+        if (meterType != null) {
+            return meterType;
+        }
+        if (REGISTRY_GAUGE.matches(method)) {
+            return "io.micrometer.core.instrument.Gauge";
+        }
+        if ("register".equals(method.getSimpleName()) && method.getArguments().size() == 1 &&
+            TypeUtils.isAssignableTo(METER_REGISTRY, method.getArguments().get(0).getType()) && builder(method) != null) {
+            JavaType.FullyQualified type = TypeUtils.asFullyQualified(method.getType());
+            return type == null ? "io.micrometer.core.instrument.Meter" : type.getFullyQualifiedName();
+        }
+        return null;
+    }
+
+    /**
+     * @return The meter builder chain ending in {@code register}, starting with the static {@code builder(name)} call,
+     * or null when the chain doesn't start with one.
+     */
+    static J.@Nullable MethodInvocation builder(J.MethodInvocation register) {
+        Expression select = register.getSelect();
+        while (select instanceof J.MethodInvocation) {
+            J.MethodInvocation m = (J.MethodInvocation) select;
+            if ("builder".equals(m.getSimpleName()) && m.getMethodType() != null &&
+                m.getMethodType().hasFlags(Flag.Static)) {
+                return m;
+            }
+            select = m.getSelect();
+        }
+        return null;
+    }
+
+    /**
+     * @return The expression the meter is registered against, or null when the registry is implicit, as for
+     * {@code counter(name)} called within a registry subclass or statically imported from {@code Metrics}.
+     */
+    static @Nullable Expression registry(J.MethodInvocation registration) {
+        return "register".equals(registration.getSimpleName()) ?
+                registration.getArguments().get(0) :
+                registration.getSelect();
+    }
+
+    /**
+     * @return The meter name, the first argument of {@code builder(name)} or {@code registry.counter/timer/summary(name, ..)}.
+     */
+    static @Nullable Expression name(J.MethodInvocation registration) {
+        if ("register".equals(registration.getSimpleName())) {
+            J.MethodInvocation builder = builder(registration);
+            return builder == null || builder.getArguments().isEmpty() ? null : builder.getArguments().get(0);
+        }
+        return registration.getArguments().get(0);
+    }
+
+    /**
+     * @return True when every method called on the way from {@code builder(..)} to {@code register(..)}, and the
+     * registration itself apart from the registry, only takes constant arguments.
+     */
+    static boolean hasConstantNameAndTags(J.MethodInvocation registration) {
+        if ("register".equals(registration.getSimpleName())) {
+            Expression select = registration.getSelect();
+            while (select instanceof J.MethodInvocation) {
+                if (!hasConstantArguments((J.MethodInvocation) select)) {
+                    return false;
+                }
+                select = ((J.MethodInvocation) select).getSelect();
+            }
+            return builder(registration) != null;
+        }
+        return hasConstantArguments(registration);
+    }
+
+    static boolean hasConstantArguments(J.MethodInvocation method) {
+        for (Expression argument : method.getArguments()) {
+            if (!(argument instanceof J.Empty) && !isConstant(argument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The keys and values of the tags of a registration given one pair at a time, either as
+     * {@code tag(key, value)} on a builder or as {@code registry.counter(name, key, value, ..)}, in source order
+     * and flattened into key, value, key, value.
+     */
+    static List<Expression> tagArguments(J.MethodInvocation registration) {
+        List<Expression> tags = new ArrayList<>();
+        J.MethodInvocation builder = builder(registration);
+        if (builder != null) {
+            for (Expression select = registration.getSelect(); select != builder; select = ((J.MethodInvocation) select).getSelect()) {
+                J.MethodInvocation m = (J.MethodInvocation) select;
+                if ("tag".equals(m.getSimpleName()) && m.getArguments().size() == 2) {
+                    // walking from the end of the chain towards the builder, so prepend to keep source order
+                    tags.addAll(0, m.getArguments());
+                }
+            }
+        } else if (!"register".equals(registration.getSimpleName()) && registration.getArguments().size() % 2 == 1) {
+            List<Expression> arguments = registration.getArguments();
+            for (int i = 1; i < arguments.size(); i++) {
+                if (!TypeUtils.isString(arguments.get(i).getType())) {
+                    return Collections.emptyList();
+                }
+            }
+            tags.addAll(arguments.subList(1, arguments.size()));
+        }
+        return tags;
+    }
+
+    /**
+     * @return True when {@code select}, or a call it is chained on, has the given name.
+     */
+    static boolean chainCalls(@Nullable Expression select, String name) {
+        for (Expression s = select; s instanceof J.MethodInvocation; s = ((J.MethodInvocation) s).getSelect()) {
+            if (name.equals(((J.MethodInvocation) s).getSimpleName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return True when a call later in the same chain, such as {@code .publishPercentileHistogram()} after
+     * {@code .publishPercentiles(..)}, has the given name.
+     */
+    static boolean laterInChainCalls(Cursor cursor, String name) {
+        Object child = cursor.getValue();
+        for (Cursor c = cursor.getParentTreeCursor(); c.getValue() instanceof J.MethodInvocation; c = c.getParentTreeCursor()) {
+            J.MethodInvocation parent = c.getValue();
+            if (parent.getSelect() != child) {
+                return false;
+            }
+            if (name.equals(parent.getSimpleName())) {
+                return true;
+            }
+            child = parent;
+        }
+        return false;
+    }
+
+    /**
+     * @return The call chain from {@code builder} to {@code select}, without the calls {@code remove} accepts.
+     */
+    static Expression withoutCalls(@Nullable Expression select, J.MethodInvocation builder, Predicate<J.MethodInvocation> remove) {
+        if (select == builder || !(select instanceof J.MethodInvocation)) {
+            return builder;
+        }
+        J.MethodInvocation m = (J.MethodInvocation) select;
+        Expression rest = withoutCalls(m.getSelect(), builder, remove);
+        return remove.test(m) ? rest : m.withSelect(rest);
+    }
+
+    /**
+     * @return A key identifying the local variable or field a registry is referenced through, unique within a
+     * project, or null when the registry is any other expression.
+     */
+    static @Nullable String variableKey(@Nullable Expression expression) {
+        Expression e = expression;
+        if (e instanceof J.FieldAccess && ((J.FieldAccess) e).getTarget() instanceof J.Identifier &&
+            "this".equals(((J.Identifier) ((J.FieldAccess) e).getTarget()).getSimpleName())) {
+            e = ((J.FieldAccess) e).getName();
+        }
+        if (!(e instanceof J.Identifier)) {
+            return null;
+        }
+        JavaType.Variable variable = ((J.Identifier) e).getFieldType();
+        return variable == null || variable.getOwner() == null ? null : variable.getOwner() + "#" + variable.getName();
+    }
+
+    /**
+     * @return The variable a registry is constructed into by this statement, which is either a local variable
+     * declaration or an assignment initialized with {@code new XMeterRegistry(..)}, or null.
+     */
+    static @Nullable Expression constructedRegistry(Statement statement) {
+        if (statement instanceof J.VariableDeclarations) {
+            List<J.VariableDeclarations.NamedVariable> variables = ((J.VariableDeclarations) statement).getVariables();
+            if (variables.size() == 1 && isNewRegistry(variables.get(0).getInitializer())) {
+                return variables.get(0).getName();
+            }
+        } else if (statement instanceof J.Assignment && isNewRegistry(((J.Assignment) statement).getAssignment())) {
+            return ((J.Assignment) statement).getVariable();
+        }
+        return null;
+    }
+
+    private static boolean isNewRegistry(@Nullable Expression expression) {
+        return expression instanceof J.NewClass && TypeUtils.isAssignableTo(METER_REGISTRY, expression.getType());
+    }
+
+    /**
+     * @return True for literals, references to static final fields and enum constants, and string concatenations
+     * of those.
+     */
+    static boolean isConstant(Expression expression) {
+        Expression e = expression instanceof J.Parentheses ? (Expression) ((J.Parentheses<?>) expression).getTree() : expression;
+        if (e instanceof J.Literal) {
+            return true;
+        }
+        if (e instanceof J.Binary) {
+            J.Binary binary = (J.Binary) e;
+            return binary.getOperator() == J.Binary.Type.Addition &&
+                   isConstant(binary.getLeft()) && isConstant(binary.getRight());
+        }
+        JavaType.Variable fieldType = null;
+        if (e instanceof J.Identifier) {
+            fieldType = ((J.Identifier) e).getFieldType();
+        } else if (e instanceof J.FieldAccess) {
+            fieldType = ((J.FieldAccess) e).getName().getFieldType();
+        }
+        if (fieldType == null || !(fieldType.getOwner() instanceof JavaType.FullyQualified)) {
+            return false;
+        }
+        Set<Flag> flags = fieldType.getFlags();
+        return flags.contains(Flag.Static) && flags.contains(Flag.Final) ||
+               ((JavaType.FullyQualified) fieldType.getOwner()).getKind() == JavaType.FullyQualified.Kind.Enum &&
+               TypeUtils.isOfType(fieldType.getType(), fieldType.getOwner());
+    }
+
+    /**
+     * @return True for {@code Tags} and {@code Tag} built by {@code of}, {@code empty}, {@code and} and {@code concat}
+     * from constants only, such as {@code Tags.of("a", "b").and(Tag.of("c", "d"))}.
+     */
+    static boolean isConstantTags(Expression expression) {
+        Expression e = expression instanceof J.Parentheses ? (Expression) ((J.Parentheses<?>) expression).getTree() : expression;
+        if (!(e instanceof J.MethodInvocation)) {
+            return false;
+        }
+        J.MethodInvocation m = (J.MethodInvocation) e;
+        JavaType.Method methodType = m.getMethodType();
+        if (methodType == null ||
+            !TypeUtils.isOfClassType(methodType.getDeclaringType(), TAGS) &&
+            !TypeUtils.isOfClassType(methodType.getDeclaringType(), TAG)) {
+            return false;
+        }
+        switch (m.getSimpleName()) {
+            case "of":
+            case "empty":
+                if (!methodType.hasFlags(Flag.Static)) {
+                    return false;
+                }
+                break;
+            case "and":
+            case "concat":
+                if (!methodType.hasFlags(Flag.Static) &&
+                    (m.getSelect() == null || !isConstant(m.getSelect()) && !isConstantTags(m.getSelect()))) {
+                    return false;
+                }
+                break;
+            default:
+                return false;
+        }
+        for (Expression argument : m.getArguments()) {
+            if (!(argument instanceof J.Empty) && !isConstant(argument) && !isConstantTags(argument)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return A Java identifier derived from a meter name, such as {@code httpServerRequests} for
+     * {@code http.server.requests}, or {@code meter} when the name has no usable characters.
+     */
+    static String identifier(@Nullable String meterName) {
+        StringBuilder identifier = new StringBuilder();
+        boolean upper = false;
+        if (meterName != null) {
+            for (char c : meterName.toCharArray()) {
+                if (Character.isLetterOrDigit(c)) {
+                    if (identifier.length() == 0) {
+                        if (Character.isLetter(c)) {
+                            identifier.append(Character.toLowerCase(c));
+                        }
+                    } else {
+                        identifier.append(upper ? Character.toUpperCase(c) : c);
+                    }
+                    upper = false;
+                } else {
+                    upper = true;
+                }
+            }
+        }
+        return identifier.length() == 0 ? "meter" : identifier.toString();
+    }
+
+    static @Nullable String literalString(@Nullable Expression expression) {
+        if (expression instanceof J.Literal && ((J.Literal) expression).getValue() instanceof String) {
+            return (String) ((J.Literal) expression).getValue();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.JavaParser;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The classpaths that recipes in this module compile their templates against, resolved from the type tables in
+ * {@code classpath.tsv.gz} and shared by every recipe in a run through the {@link ExecutionContext}. Writing the
+ * classes of a type table out is the expensive part of building a template parser, so it is done once per set
+ * of artifacts rather than once per visitor. Builders are not shared, as they are mutable, and each caller gets
+ * a new one on the shared classpath. The least recently used classpaths are evicted once {@link #MAXIMUM_SIZE}
+ * sets of artifacts are held.
+ */
+public final class ParserCache {
+    private static final String PARSER_CACHE = ParserCache.class.getName();
+
+    static final int MAXIMUM_SIZE = 16;
+
+    private final Map<List<String>, List<Path>> classpaths;
+
+    private long hits;
+    private long misses;
+
+    ParserCache(int maximumSize) {
+        this.classpaths = new LinkedHashMap<List<String>, List<Path>>(maximumSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, List<Path>> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    public static ParserCache get(ExecutionContext ctx) {
+        return ctx.computeMessageIfAbsent(PARSER_CACHE, k -> new ParserCache(MAXIMUM_SIZE));
+    }
+
+    /**
+     * @param ctx           The execution context used to load the type tables on a miss.
+     * @param artifactNames The artifacts in {@code classpath.tsv.gz} to put on the parser's classpath.
+     * @return A new parser builder equivalent to {@code JavaParser.fromJavaVersion().classpathFromResources(ctx, artifactNames)}.
+     */
+    public JavaParser.Builder<?, ?> classpathFromResources(ExecutionContext ctx, String... artifactNames) {
+        return JavaParser.fromJavaVersion().classpath(classpath(ctx, artifactNames));
+    }
+
+    synchronized List<Path> classpath(ExecutionContext ctx, String... artifactNames) {
+        List<String> key = Arrays.asList(artifactNames);
+        List<Path> classpath = classpaths.get(key);
+        if (classpath == null) {
+            misses++;
+            classpath = JavaParser.dependenciesFromResources(ctx, artifactNames);
+            classpaths.put(key, classpath);
+        } else {
+            hits++;
+        }
+        return classpath;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+}
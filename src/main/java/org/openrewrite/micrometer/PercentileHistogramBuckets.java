@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * The bucket boundaries Micrometer publishes for a percentile histogram, generated the way
+ * {@code io.micrometer.core.instrument.distribution.PercentileHistogramBuckets} does: 1, 2 and 3, then every
+ * power of 4 split into thirds, up to {@code Long.MAX_VALUE}. Timers count in nanoseconds.
+ */
+final class PercentileHistogramBuckets {
+    private static final NavigableSet<Double> BUCKETS = new TreeSet<>();
+
+    static {
+        BUCKETS.add(1.0);
+        BUCKETS.add(2.0);
+        BUCKETS.add(3.0);
+        int exp = 2;
+        while (exp < 64) {
+            long current = 1L << exp;
+            long delta = current / 3;
+            // overflows to a negative bound for the highest powers, exactly like Micrometer's generator
+            long next = (current << 2) - delta;
+            while (current < next) {
+                BUCKETS.add((double) current);
+                current += delta;
+            }
+            exp += 2;
+        }
+        BUCKETS.add((double) Long.MAX_VALUE);
+    }
+
+    private PercentileHistogramBuckets() {
+    }
+
+    /**
+     * @return The number of buckets published for a histogram between the minimum and maximum expected values,
+     * 276 when it is unbounded.
+     */
+    static int count(double minimumExpectedValue, double maximumExpectedValue) {
+        if (minimumExpectedValue > maximumExpectedValue) {
+            return 0;
+        }
+        return BUCKETS.subSet(minimumExpectedValue, true, maximumExpectedValue, true).size();
+    }
+}
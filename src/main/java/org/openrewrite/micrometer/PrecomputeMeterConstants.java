@@ -0,0 +1,311 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+public class PrecomputeMeterConstants extends Recipe {
+    private static final String CONSTANTS = "CONSTANTS";
+    private static final MethodMatcher STRING_FORMAT = new MethodMatcher("java.lang.String format(String, ..)");
+    private static final MethodMatcher METER_BUILDER = new MethodMatcher("io.micrometer.core.instrument.* builder(String, ..)");
+    private static final MethodMatcher REGISTRY_METER = new MethodMatcher(MeterRegistrations.METER_REGISTRY + " *(String, ..)");
+
+    @Getter
+    final String displayName = "Precompute constant meter tags and names";
+
+    @Getter
+    final String description = "Lift `Tags` and `Tag` built only from constants, and meter names built with `String.format` " +
+                               "or string concatenation of constants, out of method bodies into `private static final` " +
+                               "constants. This removes an allocation from every call that registers or looks up the meter.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return RecipeInstrumentation.check(this, new UsesType<>("io.micrometer.core.instrument.*", false), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+                Map<UUID, Constant> sites = canDeclareConstants(classDecl, getCursor()) ?
+                        findConstants(classDecl, getCursor()) : Collections.emptyMap();
+                if (sites.isEmpty()) {
+                    getCursor().putMessage(CONSTANTS, sites);
+                    return super.visitClassDeclaration(classDecl, ctx);
+                }
+
+                J.ClassDeclaration cd = classDecl;
+                UUID lastConstant = null;
+                for (Statement statement : cd.getBody().getStatements()) {
+                    if (statement instanceof J.VariableDeclarations &&
+                        ((J.VariableDeclarations) statement).hasModifier(J.Modifier.Type.Static) &&
+                        ((J.VariableDeclarations) statement).hasModifier(J.Modifier.Type.Final)) {
+                        lastConstant = statement.getId();
+                    }
+                }
+                List<Constant> reversed = new ArrayList<>(new LinkedHashSet<>(sites.values()));
+                Collections.reverse(reversed);
+                for (Constant constant : reversed) {
+                    // in reverse, so that constants inserted at the same place end up in the order found
+                    cd = JavaTemplate.builder("private static final " + constant.simpleTypeName() + " " + constant.name +
+                                              " = #{any(" + constant.type + ")};")
+                            .contextSensitive()
+                            .javaParser(ParserCache.get(ctx).classpathFromResources(ctx, "micrometer-core"))
+                            .imports(constant.type)
+                            .build()
+                            .apply(updateCursor(cd), coordinates(cd, lastConstant), constant.expression);
+                    maybeAddImport(constant.type);
+                    RecipeInstrumentation.match(ctx, PrecomputeMeterConstants.this);
+                }
+
+                if (lastConstant == null && !classDecl.getBody().getStatements().isEmpty()) {
+                    // constants inserted first in the body are set apart from the members that follow them
+                    UUID firstMember = classDecl.getBody().getStatements().get(0).getId();
+                    cd = cd.withBody(cd.getBody().withStatements(ListUtils.map(cd.getBody().getStatements(), s ->
+                            s.getId().equals(firstMember) && !s.getPrefix().getWhitespace().startsWith("\n\n") ?
+                                    s.withPrefix(s.getPrefix().withWhitespace("\n" + s.getPrefix().getWhitespace())) : s)));
+                }
+
+                updateCursor(cd);
+                getCursor().putMessage(CONSTANTS, sites);
+                return super.visitClassDeclaration(cd, ctx);
+            }
+
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J replaced = replace(method);
+                return replaced != null ? replaced : super.visitMethodInvocation(method, ctx);
+            }
+
+            @Override
+            public J visitBinary(J.Binary binary, ExecutionContext ctx) {
+                J replaced = replace(binary);
+                return replaced != null ? replaced : super.visitBinary(binary, ctx);
+            }
+
+            private J.@Nullable Identifier replace(Expression expression) {
+                Map<UUID, Constant> sites = getCursor().getNearestMessage(CONSTANTS);
+                Constant constant = sites == null ? null : sites.get(expression.getId());
+                // the initializer of the new constant is the expression itself, which stays as it is
+                return constant == null || getCursor().firstEnclosing(J.MethodDeclaration.class) == null ? null : new J.Identifier(Tree.randomId(), expression.getPrefix(), Markers.EMPTY,
+                        emptyList(), constant.name, expression.getType(), null);
+            }
+        });
+    }
+
+    /**
+     * Static fields may only be declared in top-level and static nested classes and enums before Java 16, and
+     * would be implicitly public in interfaces.
+     */
+    private static boolean canDeclareConstants(J.ClassDeclaration classDecl, Cursor cursor) {
+        if (classDecl.getKind() != J.ClassDeclaration.Kind.Type.Class && classDecl.getKind() != J.ClassDeclaration.Kind.Type.Enum) {
+            return false;
+        }
+        Object parent = cursor.getParentTreeCursor().getValue();
+        return parent instanceof JavaSourceFile ||
+               classDecl.hasModifier(J.Modifier.Type.Static) ||
+               classDecl.getKind() == J.ClassDeclaration.Kind.Type.Enum;
+    }
+
+    private static JavaCoordinates coordinates(J.ClassDeclaration classDecl, @Nullable UUID lastConstant) {
+        if (lastConstant != null) {
+            for (Statement statement : classDecl.getBody().getStatements()) {
+                if (statement.getId().equals(lastConstant)) {
+                    return statement.getCoordinates().after();
+                }
+            }
+        }
+        return classDecl.getBody().getCoordinates().firstStatement();
+    }
+
+    /**
+     * @return The constant expressions in methods of this class, excluding nested and anonymous classes, keyed by
+     * the id of each occurrence.
+     */
+    private static Map<UUID, Constant> findConstants(J.ClassDeclaration classDecl, Cursor classCursor) {
+        // every name declared anywhere in the class, so a new constant is never shadowed where it is used
+        Set<String> names = new HashSet<>();
+        new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Set<String> n) {
+                n.add(variable.getSimpleName());
+                return super.visitVariable(variable, n);
+            }
+        }.visit(classDecl, names);
+
+        Map<String, Constant> byCode = new LinkedHashMap<>();
+        Map<UUID, Constant> sites = new HashMap<>();
+        for (Statement statement : classDecl.getBody().getStatements()) {
+            if (!(statement instanceof J.MethodDeclaration) || ((J.MethodDeclaration) statement).getBody() == null) {
+                continue;
+            }
+            new JavaIsoVisitor<Integer>() {
+                @Override
+                public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration nested, Integer p) {
+                    return nested;
+                }
+
+                @Override
+                public J.NewClass visitNewClass(J.NewClass newClass, Integer p) {
+                    return newClass.getBody() == null ? super.visitNewClass(newClass, p) : newClass;
+                }
+
+                @Override
+                public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, Integer p) {
+                    if ((METER_BUILDER.matches(method) || REGISTRY_METER.matches(method)) &&
+                        isComputedName(method.getArguments().get(0))) {
+                        Expression name = method.getArguments().get(0);
+                        add(name, "java.lang.String", words(name), "NAME", getCursor());
+                    }
+                    if (MeterRegistrations.isConstantTags(method)) {
+                        boolean tags = TypeUtils.isOfClassType(method.getType(), MeterRegistrations.TAGS);
+                        add(method, tags ? MeterRegistrations.TAGS : MeterRegistrations.TAG,
+                                tagKeys(method, new ArrayList<>()), tags ? "TAGS" : "TAG", getCursor());
+                        return method;
+                    }
+                    return super.visitMethodInvocation(method, p);
+                }
+
+                @Override
+                public J.Binary visitBinary(J.Binary binary, Integer p) {
+                    // the whole concatenation is lifted, so its operands need not be visited
+                    return sites.containsKey(binary.getId()) ? binary : super.visitBinary(binary, p);
+                }
+
+                private void add(Expression expression, String type, List<String> words, String suffix, Cursor cursor) {
+                    String code = expression.printTrimmed(cursor);
+                    sites.put(expression.getId(), byCode.computeIfAbsent(type + " " + code, k ->
+                            new Constant(uniqueName(constantName(words, suffix), names), type, expression)));
+                }
+            }.visit(statement, 0, new Cursor(classCursor, classDecl.getBody()));
+        }
+        return sites;
+    }
+
+    /**
+     * @return True for a meter name computed anew on every call from constants, which the compiler does not fold.
+     */
+    private static boolean isComputedName(Expression name) {
+        Expression e = name instanceof J.Parentheses ? (Expression) ((J.Parentheses<?>) name).getTree() : name;
+        if (e instanceof J.MethodInvocation && STRING_FORMAT.matches((J.MethodInvocation) e)) {
+            for (Expression argument : ((J.MethodInvocation) e).getArguments()) {
+                if (!MeterRegistrations.isConstant(argument)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return e instanceof J.Binary && MeterRegistrations.isConstant(e) && !foldedByCompiler(e);
+    }
+
+    /**
+     * Concatenations of literals and of static final strings and primitives are compile-time constants. Enum
+     * constants and other objects are converted with {@code toString()} on every evaluation.
+     */
+    private static boolean foldedByCompiler(Expression expression) {
+        Expression e = expression instanceof J.Parentheses ? (Expression) ((J.Parentheses<?>) expression).getTree() : expression;
+        if (e instanceof J.Binary) {
+            return foldedByCompiler(((J.Binary) e).getLeft()) && foldedByCompiler(((J.Binary) e).getRight());
+        }
+        return e instanceof J.Literal ||
+               e.getType() instanceof JavaType.Primitive ||
+               TypeUtils.isString(e.getType());
+    }
+
+    private static List<String> words(Expression name) {
+        List<String> words = new ArrayList<>();
+        new JavaIsoVisitor<List<String>>() {
+            @Override
+            public J.Literal visitLiteral(J.Literal literal, List<String> w) {
+                if (literal.getValue() instanceof String) {
+                    // drop format specifiers, so "svc.%s.latency" reads as svc, latency
+                    w.add(((String) literal.getValue()).replaceAll("%[-#+ 0,(]*\\d*(\\.\\d+)?[a-zA-Z%]", "."));
+                }
+                return literal;
+            }
+        }.visit(name, words);
+        return words;
+    }
+
+    private static List<String> tagKeys(J.MethodInvocation tags, List<String> keys) {
+        if (tags.getSelect() instanceof J.MethodInvocation) {
+            tagKeys((J.MethodInvocation) tags.getSelect(), keys);
+        }
+        List<Expression> arguments = tags.getArguments();
+        for (int i = 0; i < arguments.size(); i++) {
+            Expression argument = arguments.get(i);
+            if (argument instanceof J.MethodInvocation) {
+                tagKeys((J.MethodInvocation) argument, keys);
+            } else if (i % 2 == 0 && TypeUtils.isString(argument.getType())) {
+                String key = MeterRegistrations.literalString(argument);
+                if (key != null) {
+                    keys.add(key);
+                }
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * @return An upper snake case constant name, such as {@code SVC_LATENCY_NAME} for {@code svc.%s.latency}.
+     */
+    private static String constantName(List<String> words, String suffix) {
+        StringBuilder name = new StringBuilder();
+        for (String word : words) {
+            for (String part : word.split("[^A-Za-z0-9]+")) {
+                if (!part.isEmpty() && (name.length() > 0 || Character.isLetter(part.charAt(0)))) {
+                    name.append(part.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT)).append('_');
+                }
+            }
+        }
+        return name.append(suffix).toString();
+    }
+
+    private static String uniqueName(String name, Set<String> names) {
+        String unique = name;
+        for (int i = 2; names.contains(unique); i++) {
+            unique = name + "_" + i;
+        }
+        names.add(unique);
+        return unique;
+    }
+
+    @RequiredArgsConstructor
+    private static class Constant {
+        final String name;
+        final String type;
+        final Expression expression;
+
+        String simpleTypeName() {
+            return type.substring(type.lastIndexOf('.') + 1);
+        }
+    }
+}
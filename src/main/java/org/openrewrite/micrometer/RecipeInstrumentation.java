@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Optional instrumentation of the recipes in this module. When a {@code MeterRegistry} is put in the
+ * {@link ExecutionContext} under {@link #METER_REGISTRY}, recipes record:
+ * <ul>
+ *     <li>{@code rewrite.recipe.visit}, a timer of the time spent visiting each source file that passes the
+ *     recipe's precondition.</li>
+ *     <li>{@code rewrite.recipe.precondition.rejections}, a counter of source files rejected by the precondition.</li>
+ *     <li>{@code rewrite.recipe.template}, a timer of the time spent applying templates.</li>
+ *     <li>{@code rewrite.recipe.matches}, a counter of the call sites changed or found.</li>
+ * </ul>
+ * Every meter is tagged with the recipe name. Nothing is recorded when there is no registry, in which case
+ * Micrometer doesn't need to be on the classpath either.
+ */
+public final class RecipeInstrumentation {
+    public static final String METER_REGISTRY = "org.openrewrite.micrometer.MeterRegistry";
+
+    private RecipeInstrumentation() {
+    }
+
+    /**
+     * Like {@link Preconditions#check(TreeVisitor, TreeVisitor)}, also recording visit latency and precondition
+     * rejections per source file.
+     */
+    public static Preconditions.Check check(Recipe recipe,
+                                            TreeVisitor<?, ExecutionContext> precondition,
+                                            TreeVisitor<?, ExecutionContext> visitor) {
+        return new InstrumentedCheck(recipe, precondition, visitor);
+    }
+
+    public static <T> T template(ExecutionContext ctx, Recipe recipe, Supplier<T> apply) {
+        Object registry = ctx.getMessage(METER_REGISTRY);
+        return registry == null ? apply.get() : Meters.of(registry, recipe, ctx).template(apply);
+    }
+
+    public static void match(ExecutionContext ctx, Recipe recipe) {
+        Object registry = ctx.getMessage(METER_REGISTRY);
+        if (registry != null) {
+            Meters.of(registry, recipe, ctx).match();
+        }
+    }
+
+    static class InstrumentedCheck extends Preconditions.Check {
+        private final Recipe recipe;
+        private final TreeVisitor<?, ExecutionContext> precondition;
+        private final TreeVisitor<?, ExecutionContext> visitor;
+
+        InstrumentedCheck(Recipe recipe, TreeVisitor<?, ExecutionContext> precondition, TreeVisitor<?, ExecutionContext> visitor) {
+            super(precondition, visitor);
+            this.recipe = recipe;
+            this.precondition = precondition;
+            this.visitor = visitor;
+        }
+
+        /**
+         * @return The same check, guarding another visitor.
+         */
+        InstrumentedCheck withVisitor(TreeVisitor<?, ExecutionContext> visitor) {
+            return new InstrumentedCheck(recipe, precondition, visitor);
+        }
+
+        TreeVisitor<?, ExecutionContext> getVisitor() {
+            return visitor;
+        }
+
+        @Override
+        public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+            Object registry = ctx.getMessage(METER_REGISTRY);
+            if (registry == null || !(tree instanceof SourceFile)) {
+                return super.visit(tree, ctx);
+            }
+            return Meters.of(registry, recipe, ctx).visit(precondition, visitor, tree, ctx, null);
+        }
+
+        /**
+         * The entry point of a recipe run, which {@link Preconditions.Check} handles without going through
+         * {@link #visit(Tree, ExecutionContext)}.
+         */
+        @Override
+        public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx, Cursor parent) {
+            Object registry = ctx.getMessage(METER_REGISTRY);
+            if (registry == null || !(tree instanceof SourceFile)) {
+                return super.visit(tree, ctx, parent);
+            }
+            return Meters.of(registry, recipe, ctx).visit(precondition, visitor, tree, ctx, parent);
+        }
+    }
+
+    /**
+     * The only class referring to Micrometer, loaded once a registry is found. The meters of each recipe are
+     * registered once per registry, and kept in the {@link ExecutionContext} for the rest of the run.
+     */
+    private static class Meters {
+        private static final String METERS = Meters.class.getName() + ".METERS";
+
+        private final MeterRegistry registry;
+        private final Counter rejections;
+        private final Timer visit;
+        private final Timer template;
+        private final Counter matches;
+
+        private Meters(MeterRegistry registry, String recipe) {
+            this.registry = registry;
+            this.rejections = Counter.builder("rewrite.recipe.precondition.rejections")
+                    .description("Source files rejected by the recipe's precondition")
+                    .tag("recipe", recipe)
+                    .register(registry);
+            this.visit = Timer.builder("rewrite.recipe.visit")
+                    .description("Time spent visiting a source file that passed the recipe's precondition")
+                    .tag("recipe", recipe)
+                    .register(registry);
+            this.template = Timer.builder("rewrite.recipe.template")
+                    .description("Time spent applying templates")
+                    .tag("recipe", recipe)
+                    .register(registry);
+            this.matches = Counter.builder("rewrite.recipe.matches")
+                    .description("Call sites changed or found by the recipe")
+                    .tag("recipe", recipe)
+                    .register(registry);
+        }
+
+        static Meters of(Object registry, Recipe recipe, ExecutionContext ctx) {
+            Map<String, Meters> byRecipe = ctx.computeMessageIfAbsent(METERS, k -> new ConcurrentHashMap<>());
+            Meters meters = byRecipe.get(recipe.getName());
+            if (meters == null || meters.registry != registry) {
+                meters = new Meters((MeterRegistry) registry, recipe.getName());
+                byRecipe.put(recipe.getName(), meters);
+            }
+            return meters;
+        }
+
+        @Nullable
+        Tree visit(TreeVisitor<?, ExecutionContext> precondition, TreeVisitor<?, ExecutionContext> visitor,
+                   Tree tree, ExecutionContext ctx, @Nullable Cursor parent) {
+            long start = System.nanoTime();
+            if ((parent == null ? precondition.visit(tree, ctx) : precondition.visit(tree, ctx, parent)) == tree) {
+                rejections.increment();
+                return tree;
+            }
+            try {
+                return parent == null ? visitor.visit(tree, ctx) : visitor.visit(tree, ctx, parent);
+            } finally {
+                visit.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        <T> T template(Supplier<T> apply) {
+            long start = System.nanoTime();
+            try {
+                return apply.get();
+            } finally {
+                template.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        void match() {
+            matches.increment();
+        }
+    }
+}
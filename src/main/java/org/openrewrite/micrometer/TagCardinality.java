@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+
+/**
+ * Classifies tag values by the number of distinct values they can take. Literals, constants, enums and booleans
+ * are bounded, as are locals only ever assigned one of those. Everything else is unbounded, with a reason
+ * that tells request paths and identifiers apart from other method parameters and computed values.
+ */
+final class TagCardinality {
+    static final String REQUEST_PATH = "request path";
+    static final String IDENTIFIER = "identifier";
+    static final String METHOD_PARAMETER = "method parameter";
+
+    private static final List<String> PATH_METHODS = Arrays.asList(
+            "getRequestURI", "getRequestURL", "getPathInfo", "getServletPath", "getRawPath", "getQueryString");
+    private static final Pattern IDENTIFIER_NAME = Pattern.compile("\\w*(?:Id|ID|Uuid|UUID)|id|uuid");
+    private static final int MAX_ASSIGNMENT_DEPTH = 3;
+
+    private TagCardinality() {
+    }
+
+    /**
+     * @param cursor A cursor anywhere inside the method the value is evaluated in.
+     * @return Null when the value takes one of a bounded set of values, otherwise why it may take arbitrarily many.
+     */
+    static @Nullable String unboundedBecause(Expression value, Cursor cursor) {
+        return unboundedBecause(value, cursor, 0);
+    }
+
+    static boolean isBounded(Expression value, Cursor cursor) {
+        return unboundedBecause(value, cursor) == null;
+    }
+
+    /**
+     * @param unbounded The number of values assumed for a tag value that is not bounded.
+     * @return An estimate of the number of distinct values: 1 for a constant, 2 for a boolean, the number of
+     * constants of an enum, the sum of the branches of a ternary, and the product of the operands of a concatenation.
+     */
+    static long estimate(Expression value, Cursor cursor, long unbounded) {
+        return unboundedBecause(value, cursor) == null ? estimate(value, cursor, unbounded, 0) : unbounded;
+    }
+
+    private static long estimate(Expression value, Cursor cursor, long unbounded, int depth) {
+        Expression e = value instanceof J.Parentheses ? (Expression) ((J.Parentheses<?>) value).getTree() : value;
+        if (MeterRegistrations.isConstant(e)) {
+            return 1;
+        }
+        if (e.getType() == JavaType.Primitive.Boolean || TypeUtils.isOfClassType(e.getType(), "java.lang.Boolean")) {
+            return 2;
+        }
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(e.getType());
+        if (fq != null && fq.getKind() == JavaType.FullyQualified.Kind.Enum) {
+            int constants = enumConstants(fq);
+            return constants == 0 ? unbounded : constants;
+        }
+        if (e instanceof J.Ternary) {
+            return saturatedAdd(estimate(((J.Ternary) e).getTruePart(), cursor, unbounded, depth),
+                    estimate(((J.Ternary) e).getFalsePart(), cursor, unbounded, depth));
+        }
+        if (e instanceof J.Binary) {
+            return saturatedMultiply(estimate(((J.Binary) e).getLeft(), cursor, unbounded, depth),
+                    estimate(((J.Binary) e).getRight(), cursor, unbounded, depth));
+        }
+        if (e instanceof J.MethodInvocation) {
+            J.MethodInvocation m = (J.MethodInvocation) e;
+            Expression bounded = m.getArguments().size() == 1 && !(m.getArguments().get(0) instanceof J.Empty) ?
+                    m.getArguments().get(0) : m.getSelect();
+            return bounded == null ? unbounded : estimate(bounded, cursor, unbounded, depth);
+        }
+        if (e instanceof J.Identifier && depth < MAX_ASSIGNMENT_DEPTH) {
+            J.MethodDeclaration method = cursor.firstEnclosing(J.MethodDeclaration.class);
+            JavaType.Variable variable = ((J.Identifier) e).getFieldType();
+            Expression initializer = method == null || variable == null ? null : soleAssignment(method, variable);
+            return initializer == null ? unbounded : estimate(initializer, cursor, unbounded, depth + 1);
+        }
+        return unbounded;
+    }
+
+    private static int enumConstants(JavaType.FullyQualified enumType) {
+        int constants = 0;
+        for (JavaType.Variable member : enumType.getMembers()) {
+            if (member.hasFlags(Flag.Static, Flag.Final) && TypeUtils.isOfType(member.getType(), enumType)) {
+                constants++;
+            }
+        }
+        return constants;
+    }
+
+    static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    static long saturatedMultiply(long a, long b) {
+        return a != 0 && b > Long.MAX_VALUE / a ? Long.MAX_VALUE : a * b;
+    }
+
+    private static @Nullable String unboundedBecause(Expression value, Cursor cursor, int depth) {
+        Expression e = value instanceof J.Parentheses ? (Expression) ((J.Parentheses<?>) value).getTree() : value;
+        if (MeterRegistrations.isConstant(e) || isBoundedType(e.getType())) {
+            return null;
+        }
+        if (e instanceof J.Ternary) {
+            String whenTrue = unboundedBecause(((J.Ternary) e).getTruePart(), cursor, depth);
+            return whenTrue != null ? whenTrue : unboundedBecause(((J.Ternary) e).getFalsePart(), cursor, depth);
+        }
+        if (e instanceof J.Binary) {
+            String left = unboundedBecause(((J.Binary) e).getLeft(), cursor, depth);
+            return left != null ? left : unboundedBecause(((J.Binary) e).getRight(), cursor, depth);
+        }
+        if (e instanceof J.MethodInvocation) {
+            J.MethodInvocation m = (J.MethodInvocation) e;
+            if (PATH_METHODS.contains(m.getSimpleName())) {
+                return REQUEST_PATH;
+            }
+            if (("name".equals(m.getSimpleName()) || "toString".equals(m.getSimpleName())) &&
+                m.getSelect() != null && isBoundedType(m.getSelect().getType()) ||
+                ("valueOf".equals(m.getSimpleName()) || "toString".equals(m.getSimpleName())) &&
+                m.getArguments().size() == 1 && isBoundedType(m.getArguments().get(0).getType())) {
+                return null;
+            }
+            return IDENTIFIER_NAME.matcher(m.getSimpleName()).matches() ? IDENTIFIER : "method call";
+        }
+        if (e instanceof J.Identifier) {
+            J.Identifier identifier = (J.Identifier) e;
+            if (IDENTIFIER_NAME.matcher(identifier.getSimpleName()).matches()) {
+                return IDENTIFIER;
+            }
+            JavaType.Variable variable = identifier.getFieldType();
+            if (variable == null || !(variable.getOwner() instanceof JavaType.Method)) {
+                return "field";
+            }
+            J.MethodDeclaration method = cursor.firstEnclosing(J.MethodDeclaration.class);
+            if (method == null) {
+                return "local variable";
+            }
+            for (Statement parameter : method.getParameters()) {
+                if (parameter instanceof J.VariableDeclarations &&
+                    ((J.VariableDeclarations) parameter).getVariables().get(0).getSimpleName().equals(variable.getName())) {
+                    return METHOD_PARAMETER;
+                }
+            }
+            Expression initializer = soleAssignment(method, variable);
+            return initializer == null || depth >= MAX_ASSIGNMENT_DEPTH ?
+                    "local variable" :
+                    unboundedBecause(initializer, cursor, depth + 1);
+        }
+        if (e instanceof J.FieldAccess) {
+            return IDENTIFIER_NAME.matcher(((J.FieldAccess) e).getSimpleName()).matches() ? IDENTIFIER : "field";
+        }
+        return "computed";
+    }
+
+    private static boolean isBoundedType(@Nullable JavaType type) {
+        if (type == JavaType.Primitive.Boolean || TypeUtils.isOfClassType(type, "java.lang.Boolean")) {
+            return true;
+        }
+        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+        return fq != null && fq.getKind() == JavaType.FullyQualified.Kind.Enum;
+    }
+
+    /**
+     * @return The initializer of a local variable that is never assigned again, or null.
+     */
+    private static @Nullable Expression soleAssignment(J.MethodDeclaration method, JavaType.Variable variable) {
+        AtomicReference<Expression> initializer = new AtomicReference<>();
+        AtomicInteger assignments = new AtomicInteger();
+        new JavaIsoVisitor<Integer>() {
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable v, Integer p) {
+                if (variable.equals(v.getVariableType())) {
+                    initializer.set(v.getInitializer());
+                    assignments.incrementAndGet();
+                }
+                return super.visitVariable(v, p);
+            }
+
+            @Override
+            public J.Assignment visitAssignment(J.Assignment assignment, Integer p) {
+                countIfAssigned(assignment.getVariable());
+                return super.visitAssignment(assignment, p);
+            }
+
+            @Override
+            public J.AssignmentOperation visitAssignmentOperation(J.AssignmentOperation assignOp, Integer p) {
+                countIfAssigned(assignOp.getVariable());
+                return super.visitAssignmentOperation(assignOp, p);
+            }
+
+            private void countIfAssigned(Expression target) {
+                if (target instanceof J.Identifier && variable.equals(((J.Identifier) target).getFieldType())) {
+                    assignments.incrementAndGet();
+                }
+            }
+        }.visit(method.getBody(), 0);
+        return assignments.get() == 1 ? initializer.get() : null;
+    }
+}
@@ -16,15 +16,21 @@
 package org.openrewrite.micrometer;
 
 import lombok.Getter;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.ListUtils;
 import org.openrewrite.internal.StringUtils;
 import org.openrewrite.java.*;
 import org.openrewrite.java.search.UsesMethod;
 import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeTree;
+import org.openrewrite.micrometer.table.HighCardinalityTags;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -32,17 +38,24 @@ import java.util.List;
 public class TimerToObservation extends Recipe {
     private static final String TIMER = "io.micrometer.core.instrument.Timer";
     private static final String OBSERVATION = "io.micrometer.observation.Observation";
+    private static final String METER_REGISTRY = "io.micrometer.core.instrument.MeterRegistry";
+    private static final String OBSERVATION_REGISTRY = "io.micrometer.observation.ObservationRegistry";
+
+    transient HighCardinalityTags highCardinalityTags = new HighCardinalityTags(this);
 
     @Getter
     final String displayName = "Convert Micrometer `Timer` to `Observations`";
 
     @Getter
-    final String description = "Convert Micrometer `Timer` to `Observations` to instrument once, and get multiple benefits out of it.";
+    final String description = "Convert Micrometer `Timer` to `Observations` to instrument once, and get multiple benefits out of it. " +
+                               "Tags with values from a bounded set, such as literals, constants and enums, become low cardinality " +
+                               "key values that stay on the derived metrics; all other tags become high cardinality key values.";
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(
+        return RecipeInstrumentation.check(this,
                 Preconditions.and(
+                        InstrumentationTypesInUse.uses(InstrumentationTypesInUse.Library.MICROMETER),
                         Preconditions.or(
                                 new UsesMethod<>(TIMER + " record*(..)", false),
                                 new UsesMethod<>(TIMER + " wrap(..)", false)
@@ -53,29 +66,84 @@ public class TimerToObservation extends Recipe {
                         )
                 ),
                 new JavaIsoVisitor<ExecutionContext>() {
-                    // Changed first in visitCompilationUnit
-                    private final ChangeType changeTypeRegistry = new ChangeType("io.micrometer.core.instrument.MeterRegistry", "io.micrometer.observation.ObservationRegistry", null);
-                    private final ChangeType changeTypeTimer = new ChangeType("io.micrometer.core.instrument.Timer","io.micrometer.observation.Observation", null);
-                    private final ChangeMethodName changeRecord = new ChangeMethodName(OBSERVATION + " record*(..)", "observe", null, null);
-
-                    // Changed later in visitMethodInvocation
-                    private final MethodMatcher builderMatcher = new MethodMatcher(OBSERVATION + " builder(String)");
-                    private final MethodMatcher registerMatcher = new MethodMatcher(OBSERVATION + "$Builder register(io.micrometer.observation.ObservationRegistry)");
-                    private final MethodMatcher tagMatcher = new MethodMatcher(OBSERVATION + "$Builder tag(String, String)");
-                    private final MethodMatcher tagsMatcher = new MethodMatcher(OBSERVATION + "$Builder tags(..)");
-                    private final MethodMatcher tagsIterableMatcher = new MethodMatcher(OBSERVATION + "$Builder tags(java.lang.Iterable)");
+                    // Matched on the original types, before this traversal changes them
+                    private final MethodMatcher recordMatcher = new MethodMatcher(TIMER + " record*(..)");
+                    private final MethodMatcher builderMatcher = new MethodMatcher(TIMER + " builder(String)");
+                    private final MethodMatcher registerMatcher = new MethodMatcher(TIMER + "$Builder register(" + METER_REGISTRY + ")");
+                    private final MethodMatcher tagMatcher = new MethodMatcher(TIMER + "$Builder tag(String, String)");
+                    private final MethodMatcher tagsMatcher = new MethodMatcher(TIMER + "$Builder tags(..)");
+                    private final MethodMatcher tagsIterableMatcher = new MethodMatcher(TIMER + "$Builder tags(java.lang.Iterable)");
+
+                    @Override
+                    public J.Import visitImport(J.Import _import, ExecutionContext ctx) {
+                        String changed = _import.isStatic() ? changedType(_import.getQualid().getTarget().getType()) : null;
+                        if (changed == null) {
+                            // Left to maybeRemoveImport and maybeAddImport, once the rest of the file has been changed
+                            return _import;
+                        }
+                        // Members still used keep their import, retyped like the references to them, the others go
+                        J.FieldAccess qualid = _import.getQualid();
+                        maybeRemoveImport(changed + "." + qualid.getSimpleName());
+                        return _import.withQualid(qualid
+                                .withTarget(TypeTree.<J.FieldAccess>build(changed).withPrefix(qualid.getTarget().getPrefix()))
+                                .withType(retype(qualid.getType())));
+                    }
+
+                    @Override
+                    public J.FieldAccess visitFieldAccess(J.FieldAccess fieldAccess, ExecutionContext ctx) {
+                        String changed = changedType(fieldAccess.getType());
+                        if (changed != null && !changed.contains("$") &&
+                            fieldAccess.getName().getFieldType() == null && fieldAccess.getTarget().getType() == null) {
+                            // A fully qualified reference, whose target is a package
+                            return TypeTree.<J.FieldAccess>build(changed)
+                                    .withId(fieldAccess.getId())
+                                    .withPrefix(fieldAccess.getPrefix())
+                                    .withMarkers(fieldAccess.getMarkers());
+                        }
+                        return super.visitFieldAccess(fieldAccess, ctx);
+                    }
 
                     @Override
-                    public J.CompilationUnit visitCompilationUnit(J.CompilationUnit compilationUnit, ExecutionContext ctx) {
-                        J.CompilationUnit cu = compilationUnit;
-                        cu = (J.CompilationUnit) changeTypeRegistry.getVisitor().visitNonNull(cu, ctx);
-                        cu = (J.CompilationUnit) changeTypeTimer.getVisitor().visitNonNull(cu, ctx);
-                        cu = (J.CompilationUnit) changeRecord.getVisitor().visitNonNull(cu, ctx);
-                        return super.visitCompilationUnit(cu, ctx);
+                    public J.Identifier visitIdentifier(J.Identifier identifier, ExecutionContext ctx) {
+                        J.Identifier i = super.visitIdentifier(identifier, ctx);
+                        String changed = identifier.getFieldType() == null ? changedType(identifier.getType()) : null;
+                        if (changed != null && !changed.contains("$")) {
+                            String original = ((JavaType.FullyQualified) identifier.getType()).getFullyQualifiedName();
+                            if (identifier.getSimpleName().equals(original.substring(original.lastIndexOf('.') + 1))) {
+                                i = i.withSimpleName(changed.substring(changed.lastIndexOf('.') + 1));
+                                maybeRemoveImport(original);
+                                maybeAddImport(changed);
+                            }
+                        }
+                        return i;
+                    }
+
+                    @Override
+                    public @Nullable JavaType visitType(@Nullable JavaType javaType, ExecutionContext ctx) {
+                        return retype(javaType);
+                    }
+
+                    @Override
+                    public J.MemberReference visitMemberReference(J.MemberReference memberRef, ExecutionContext ctx) {
+                        J.MemberReference m = memberRef;
+                        JavaType.Method methodType = m.getMethodType();
+                        if (methodType != null && recordMatcher.matches(methodType)) {
+                            JavaType.Method observe = methodType.withName("observe");
+                            m = m.withReference(m.getReference().withSimpleName("observe").withType(observe))
+                                    .withMethodType(observe);
+                        }
+                        return super.visitMemberReference(m, ctx);
                     }
 
                     @Override
                     public J.MethodInvocation visitMethodInvocation(J.MethodInvocation mi, ExecutionContext ctx) {
+                        if (recordMatcher.matches(mi)) {
+                            // Renamed before descending, so templates applied to the builder chain see `observe`
+                            JavaType.Method observe = mi.getMethodType() == null ? null : mi.getMethodType().withName("observe");
+                            mi = mi.withName(mi.getName().withSimpleName("observe").withType(observe))
+                                    .withMethodType(observe);
+                            updateCursor(mi);
+                        }
                         if (registerMatcher.matches(mi)) {
                             Expression timerName = null;
                             Expression registry = mi.getArguments().get(0);
@@ -90,37 +158,39 @@ public class TimerToObservation extends Recipe {
                                     timerName = builderMethod.getArguments().get(0);
                                 }
                                 else if (tagMatcher.matches(maybeBuilder)) {
-                                    builder.add("\n.highCardinalityKeyValue(#{any(String)}, #{any(String)})");
-                                    parameters.add(builderMethod.getArguments().get(0));
-                                    parameters.add(builderMethod.getArguments().get(1));
+                                    // walking from the end of the chain towards the builder, so prepend to keep source order
+                                    builder.add(0, "\n." + cardinality(builderMethod.getArguments()) + "CardinalityKeyValue(#{any(String)}, #{any(String)})");
+                                    parameters.addAll(0, builderMethod.getArguments());
                                 }
                                 else if (tagsIterableMatcher.matches(maybeBuilder)) {
-                                    builder.add("\n.highCardinalityKeyValues(KeyValues.of(#{any(java.lang.Iterable)}, Tag::getKey, Tag::getValue))");
-                                    parameters.addAll(builderMethod.getArguments());
+                                    builder.add(0, "\n." + cardinality(builderMethod.getArguments()) + "CardinalityKeyValues(KeyValues.of(#{any(java.lang.Iterable)}, Tag::getKey, Tag::getValue))");
+                                    parameters.addAll(0, builderMethod.getArguments());
                                     maybeAddImport("io.micrometer.common.KeyValues");
                                     maybeAddImport("io.micrometer.core.instrument.Tag");
                                 }
                                 else if (tagsMatcher.matches(maybeBuilder)) {
                                     String args = StringUtils.repeat("#{any(String)},", builderMethod.getArguments().size());
                                     args = args.substring(0, args.length() - 1);
-                                    builder.add("\n.highCardinalityKeyValues(KeyValues.of(" + args + "))");
-                                    parameters.addAll(builderMethod.getArguments());
+                                    builder.add(0, "\n." + cardinality(builderMethod.getArguments()) + "CardinalityKeyValues(KeyValues.of(" + args + "))");
+                                    parameters.addAll(0, builderMethod.getArguments());
                                     maybeAddImport("io.micrometer.common.KeyValues");
                                 }
                                 maybeBuilder = ((J.MethodInvocation) maybeBuilder).getSelect();
                             }
                             if (timerName != null) {
+                                reportHighCardinalityTags(timerName, mi.getSelect(), ctx);
+
                                 parameters.add(0, timerName);
                                 parameters.add(1, registry);
 
                                 maybeRemoveImport("io.micrometer.core.instrument.Timer");
                                 maybeAddImport("io.micrometer.observation.Observation");
 
-                                JavaTemplate template = JavaTemplate
-                                        .builder("Observation.createNotStarted(#{any(java.lang.String)}, #{any()})" +
-                                                String.join("", builder))
-                                        .contextSensitive()
-                                        .javaParser(JavaParser.fromJavaVersion()
+                                // Everything the template refers to is passed in, so it is context-free, and compiled
+                                // once per cycle for every builder chain of the same shape
+                                JavaTemplate template = JavaTemplate.builder(
+                                                "Observation.createNotStarted(#{any(java.lang.String)}, #{any(" + OBSERVATION_REGISTRY + ")})" + String.join("", builder))
+                                        .javaParser(ParserCache.get(ctx)
                                                 .classpathFromResources(ctx,
                                                         "micrometer-observation",
                                                         "micrometer-commons",
@@ -130,14 +200,98 @@ public class TimerToObservation extends Recipe {
                                         .imports("io.micrometer.core.instrument.Tag")
                                         .build();
 
+                                J.MethodInvocation register = mi;
                                 mi = autoFormat(
-                                        template.apply(updateCursor(mi), mi.getCoordinates().replace(), parameters.toArray()),
+                                        RecipeInstrumentation.<J.MethodInvocation>template(ctx, TimerToObservation.this, () ->
+                                                template.apply(updateCursor(register), register.getCoordinates().replace(), parameters.toArray())),
                                         ctx
                                 );
+                                RecipeInstrumentation.match(ctx, TimerToObservation.this);
                             }
                         }
                         return super.visitMethodInvocation(mi, ctx);
                     }
+
+                    /**
+                     * @return the types this recipe changes, with every reference to {@code MeterRegistry} and
+                     * {@code Timer} replaced by {@code ObservationRegistry} and {@code Observation}.
+                     */
+                    private @Nullable JavaType retype(@Nullable JavaType type) {
+                        if (type instanceof JavaType.Parameterized) {
+                            JavaType.Parameterized parameterized = (JavaType.Parameterized) type;
+                            return parameterized.withType((JavaType.FullyQualified) retype(parameterized.getType()))
+                                    .withTypeParameters(ListUtils.map(parameterized.getTypeParameters(), this::retype));
+                        } else if (type instanceof JavaType.FullyQualified) {
+                            String changed = changedType(type);
+                            return changed == null ? type : JavaType.ShallowClass.build(changed);
+                        } else if (type instanceof JavaType.Array) {
+                            JavaType.Array array = (JavaType.Array) type;
+                            return array.withElemType(retype(array.getElemType()));
+                        } else if (type instanceof JavaType.Method) {
+                            JavaType.Method method = (JavaType.Method) type;
+                            return method.withDeclaringType((JavaType.FullyQualified) retype(method.getDeclaringType()))
+                                    .withReturnType(retype(method.getReturnType()))
+                                    .withParameterTypes(ListUtils.map(method.getParameterTypes(), this::retype));
+                        } else if (type instanceof JavaType.Variable) {
+                            JavaType.Variable variable = (JavaType.Variable) type;
+                            return variable.withOwner(retype(variable.getOwner()))
+                                    .withType(retype(variable.getType()));
+                        }
+                        return type;
+                    }
+
+                    /**
+                     * @return {@code low} when every tag value passed to a {@code tag} or {@code tags} call is bounded,
+                     * so it can stay on the metrics derived from the observation, otherwise {@code high}.
+                     */
+                    private String cardinality(List<Expression> tagArguments) {
+                        if (tagArguments.size() == 1) {
+                            Expression tags = tagArguments.get(0);
+                            return MeterRegistrations.isConstantTags(tags) || TagCardinality.isBounded(tags, getCursor()) ? "low" : "high";
+                        }
+                        for (int i = 1; i < tagArguments.size(); i += 2) {
+                            if (!TagCardinality.isBounded(tagArguments.get(i), getCursor())) {
+                                return "high";
+                            }
+                        }
+                        return "low";
+                    }
+
+                    private void reportHighCardinalityTags(Expression timerName, @Nullable Expression select, ExecutionContext ctx) {
+                        String sourcePath = getCursor().firstEnclosingOrThrow(JavaSourceFile.class).getSourcePath().toString();
+                        for (Expression s = select; s instanceof J.MethodInvocation; s = ((J.MethodInvocation) s).getSelect()) {
+                            J.MethodInvocation m = (J.MethodInvocation) s;
+                            if (!tagMatcher.matches(m) && !tagsMatcher.matches(m)) {
+                                continue;
+                            }
+                            List<Expression> arguments = m.getArguments();
+                            for (int i = arguments.size() == 1 ? -1 : 0; i + 1 < arguments.size(); i += 2) {
+                                Expression value = arguments.get(i + 1);
+                                String reason = MeterRegistrations.isConstantTags(value) ? null : TagCardinality.unboundedBecause(value, getCursor());
+                                if (reason != null) {
+                                    highCardinalityTags.insertRow(ctx, new HighCardinalityTags.Row(
+                                            sourcePath,
+                                            timerName.printTrimmed(getCursor()),
+                                            i < 0 ? "" : arguments.get(i).printTrimmed(getCursor()),
+                                            value.printTrimmed(getCursor()),
+                                            reason));
+                                }
+                            }
+                        }
+                    }
                 });
     }
+
+    private static @Nullable String changedType(@Nullable JavaType type) {
+        if (!(type instanceof JavaType.FullyQualified) || type instanceof JavaType.Parameterized) {
+            return null;
+        }
+        String fqn = ((JavaType.FullyQualified) type).getFullyQualifiedName();
+        if (METER_REGISTRY.equals(fqn)) {
+            return OBSERVATION_REGISTRY;
+        } else if (TIMER.equals(fqn) || fqn.startsWith(TIMER + "$")) {
+            return OBSERVATION + fqn.substring(TIMER.length());
+        }
+        return null;
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+
+public class UseInjectedMeterRegistry extends Recipe {
+    private static final String METRICS = "io.micrometer.core.instrument.Metrics";
+    private static final MethodMatcher METRICS_METER = new MethodMatcher(METRICS + " *(String, ..)");
+    private static final MethodMatcher METRICS_MORE = new MethodMatcher(METRICS + " more()");
+
+    @Getter
+    final String displayName = "Use an injected `MeterRegistry` instead of the global registry";
+
+    @Getter
+    final String description = "Bind meters registered through the static `Metrics.counter/timer/summary/gauge(..)` methods " +
+                               "or against `Metrics.globalRegistry` to a `MeterRegistry` parameter of the enclosing method, " +
+                               "or a `MeterRegistry` field of the enclosing class, avoiding the fan out and lookups of the " +
+                               "global composite registry. Code with no such registry in scope keeps the global registry.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return RecipeInstrumentation.check(this, new UsesType<>(METRICS, true), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                if (!METRICS_METER.matches(method) && !METRICS_MORE.matches(method)) {
+                    return m;
+                }
+                J.Identifier registry = registryInScope(getCursor());
+                JavaType.FullyQualified registryType = registry == null ? null : meterRegistryType(registry.getType());
+                if (registryType == null || m.getMethodType() == null) {
+                    return m;
+                }
+                if (m.getSelect() == null) {
+                    maybeRemoveImport(METRICS + "." + m.getSimpleName());
+                }
+                maybeRemoveImport(METRICS);
+                RecipeInstrumentation.match(ctx, UseInjectedMeterRegistry.this);
+                return m.withSelect(registry.withPrefix(m.getSelect() == null ? Space.EMPTY : m.getSelect().getPrefix()))
+                        .withMethodType(m.getMethodType().withDeclaringType(registryType));
+            }
+
+            @Override
+            public J visitFieldAccess(J.FieldAccess fieldAccess, ExecutionContext ctx) {
+                J j = super.visitFieldAccess(fieldAccess, ctx);
+                return isGlobalRegistry(fieldAccess.getName()) ? injected((Expression) j, ctx) : j;
+            }
+
+            @Override
+            public J visitIdentifier(J.Identifier identifier, ExecutionContext ctx) {
+                J j = super.visitIdentifier(identifier, ctx);
+                // a statically imported globalRegistry, rather than the name of an already visited field access
+                return isGlobalRegistry(identifier) && !(getCursor().getParentTreeCursor().getValue() instanceof J.FieldAccess) ?
+                        injected((Expression) j, ctx) : j;
+            }
+
+            private J injected(Expression globalRegistry, ExecutionContext ctx) {
+                J.Identifier registry = registryInScope(getCursor());
+                if (registry == null) {
+                    return globalRegistry;
+                }
+                maybeRemoveImport(METRICS);
+                maybeRemoveImport(METRICS + ".globalRegistry");
+                RecipeInstrumentation.match(ctx, UseInjectedMeterRegistry.this);
+                return registry.withPrefix(globalRegistry.getPrefix());
+            }
+        });
+    }
+
+    private static boolean isGlobalRegistry(J.Identifier name) {
+        JavaType.Variable variable = name.getFieldType();
+        return variable != null && "globalRegistry".equals(variable.getName()) &&
+               TypeUtils.isOfClassType(variable.getOwner(), METRICS);
+    }
+
+    /**
+     * @param cursor A cursor inside a method body.
+     * @return A reference to the only {@code MeterRegistry} parameter of the enclosing method or, in instance methods
+     * other than constructors and static methods, the only {@code MeterRegistry} field of the enclosing class that no
+     * local name shadows. Null in field initializers and initializer blocks, and when there is no such registry or
+     * more than one.
+     */
+    public static J.@Nullable Identifier registryInScope(Cursor cursor) {
+        Cursor methodCursor = cursor.dropParentUntil(v -> v instanceof J.MethodDeclaration || v instanceof J.ClassDeclaration ||
+                                                          v instanceof J.NewClass && ((J.NewClass) v).getBody() != null ||
+                                                          v == Cursor.ROOT_VALUE);
+        if (!(methodCursor.getValue() instanceof J.MethodDeclaration)) {
+            return null;
+        }
+        J.MethodDeclaration method = methodCursor.getValue();
+        List<JavaType.Variable> parameters = registries(method.getParameters(), false);
+        if (!parameters.isEmpty()) {
+            return parameters.size() == 1 ? reference(parameters.get(0)) : null;
+        }
+        Object classDecl = methodCursor.getParentTreeCursor().getParentTreeCursor().getValue();
+        if (method.isConstructor() || !(classDecl instanceof J.ClassDeclaration)) {
+            return null;
+        }
+        List<JavaType.Variable> fields = registries(((J.ClassDeclaration) classDecl).getBody().getStatements(),
+                method.hasModifier(J.Modifier.Type.Static));
+        if (fields.size() != 1 || declaresName(method, fields.get(0).getName())) {
+            return null;
+        }
+        return reference(fields.get(0));
+    }
+
+    private static List<JavaType.Variable> registries(List<Statement> declarations, boolean onlyStatic) {
+        List<JavaType.Variable> registries = new ArrayList<>();
+        for (Statement statement : declarations) {
+            if (statement instanceof J.VariableDeclarations &&
+                TypeUtils.isAssignableTo(MeterRegistrations.METER_REGISTRY, ((J.VariableDeclarations) statement).getType()) &&
+                (!onlyStatic || ((J.VariableDeclarations) statement).hasModifier(J.Modifier.Type.Static))) {
+                for (J.VariableDeclarations.NamedVariable v : ((J.VariableDeclarations) statement).getVariables()) {
+                    if (v.getVariableType() != null) {
+                        registries.add(v.getVariableType());
+                    }
+                }
+            }
+        }
+        return registries;
+    }
+
+    private static boolean declaresName(J.MethodDeclaration method, String name) {
+        Set<String> names = new HashSet<>();
+        new JavaIsoVisitor<Set<String>>() {
+            @Override
+            public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, Set<String> n) {
+                n.add(variable.getSimpleName());
+                return super.visitVariable(variable, n);
+            }
+        }.visit(method, names);
+        return names.contains(name);
+    }
+
+    private static J.Identifier reference(JavaType.Variable registry) {
+        return new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(),
+                registry.getName(), registry.getType(), registry);
+    }
+
+    private static JavaType.@Nullable FullyQualified meterRegistryType(@Nullable JavaType type) {
+        for (JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type); fq != null; fq = fq.getSupertype()) {
+            if (MeterRegistrations.METER_REGISTRY.equals(fq.getFullyQualifiedName())) {
+                return fq;
+            }
+        }
+        return null;
+    }
+}
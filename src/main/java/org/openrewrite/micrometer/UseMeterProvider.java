@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
+import org.openrewrite.java.tree.J;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class UseMeterProvider extends Recipe {
+    private static final String METER = "io.micrometer.core.instrument.Meter";
+
+    @Getter
+    final String displayName = "Use `MeterProvider` for meters with dynamic tags";
+
+    @Getter
+    final String description = "Registrations made per call through a meter builder whose tags are only known at call time, " +
+                               "such as `Timer.builder(\"http\").tag(\"status\", code).register(registry)`, build the constant " +
+                               "part of the meter once into a `Meter.MeterProvider` field with `withRegistry(registry)`. Call " +
+                               "sites become `provider.withTags(\"status\", code)`. Requires Micrometer 1.12 or later.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        return RecipeInstrumentation.check(this, new UsesType<>(MeterRegistrations.METER_REGISTRY, false), new MeterFieldHoister(this) {
+            @Override
+            @Nullable Field hoist(J.MethodInvocation registration, String meterType, Cursor cursor) {
+                J.MethodInvocation builder = MeterRegistrations.builder(registration);
+                if (builder == null || !MeterRegistrations.hasConstantArguments(builder)) {
+                    return null;
+                }
+                List<Expression> dynamicTags = new ArrayList<>();
+                for (Expression select = registration.getSelect(); select != builder; select = ((J.MethodInvocation) select).getSelect()) {
+                    J.MethodInvocation m = (J.MethodInvocation) select;
+                    if (isDynamicTag(m)) {
+                        // walking from the end of the chain towards the builder, so prepend to keep source order
+                        dynamicTags.addAll(0, m.getArguments());
+                    } else if (!MeterRegistrations.hasConstantArguments(m)) {
+                        return null;
+                    }
+                }
+                Expression registry = MeterRegistrations.registry(registration);
+                if (dynamicTags.isEmpty() || registry == null) {
+                    return null;
+                }
+
+                Expression constantPart = MeterRegistrations.withoutCalls(registration.getSelect(), builder, UseMeterProvider::isDynamicTag);
+                String simpleName = meterType.substring(meterType.lastIndexOf('.') + 1);
+                return new Field(
+                        constantPart.printTrimmed(cursor) + ".withRegistry(" + registry.printTrimmed(cursor) + ")",
+                        "Meter.MeterProvider<" + simpleName + ">",
+                        new String[]{METER, meterType},
+                        MeterRegistrations.identifier(MeterRegistrations.literalString(MeterRegistrations.name(registration))) +
+                        simpleName + "Provider",
+                        "#{any(" + meterType + ".Builder)}.withRegistry(#{any(" + MeterRegistrations.METER_REGISTRY + ")})",
+                        new Object[]{constantPart, registry});
+            }
+
+            @Override
+            J replace(J.MethodInvocation registration, Field field, J.Identifier fieldReference, Cursor cursor, ExecutionContext ctx) {
+                List<Expression> dynamicTags = new ArrayList<>();
+                for (Expression select = registration.getSelect(); select instanceof J.MethodInvocation;
+                     select = ((J.MethodInvocation) select).getSelect()) {
+                    if (isDynamicTag((J.MethodInvocation) select)) {
+                        dynamicTags.addAll(0, ((J.MethodInvocation) select).getArguments());
+                    }
+                }
+                // the field is passed in rather than named, as the compilation unit in the cursor doesn't declare it yet
+                Object[] parameters = new Object[dynamicTags.size() + 1];
+                parameters[0] = fieldReference;
+                for (int i = 0; i < dynamicTags.size(); i++) {
+                    parameters[i + 1] = dynamicTags.get(i);
+                }
+                return JavaTemplate.builder("#{any(" + METER + ".MeterProvider<" + field.imports[1] + ">)}.withTags(" +
+                                            String.join(", ", Collections.nCopies(dynamicTags.size(), "#{any(String)}")) + ")")
+                        .javaParser(ParserCache.get(ctx).classpathFromResources(ctx, "micrometer-core"))
+                        .build()
+                        .apply(cursor, registration.getCoordinates().replace(), parameters);
+            }
+        });
+    }
+
+    /**
+     * @return True for {@code tag(key, value)} with a constant key and a value only known at call time.
+     */
+    private static boolean isDynamicTag(J.MethodInvocation m) {
+        return "tag".equals(m.getSimpleName()) && m.getArguments().size() == 2 &&
+               MeterRegistrations.isConstant(m.getArguments().get(0)) &&
+               !MeterRegistrations.isConstant(m.getArguments().get(1));
+    }
+}
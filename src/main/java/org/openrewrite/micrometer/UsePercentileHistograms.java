@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
+import org.openrewrite.gradle.marker.GradleProject;
+import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.JavaVisitor;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.Markers;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
+public class UsePercentileHistograms extends ScanningRecipe<AtomicBoolean> {
+    private static final String TIMED = "io.micrometer.core.annotation.Timed";
+    private static final MethodMatcher TIMER_PERCENTILES = new MethodMatcher("io.micrometer.core.instrument.Timer$Builder publishPercentiles(..)");
+    private static final MethodMatcher SUMMARY_PERCENTILES = new MethodMatcher("io.micrometer.core.instrument.DistributionSummary$Builder publishPercentiles(..)");
+
+    /**
+     * Registries that publish percentile histograms as buckets a backend can aggregate across instances.
+     */
+    private static final List<String> HISTOGRAM_REGISTRIES = Arrays.asList(
+            "io.micrometer.prometheus.PrometheusMeterRegistry",
+            "io.micrometer.prometheusmetrics.PrometheusMeterRegistry",
+            "io.micrometer.atlas.AtlasMeterRegistry",
+            "io.micrometer.wavefront.WavefrontMeterRegistry",
+            "io.micrometer.registry.otlp.OtlpMeterRegistry"
+    );
+
+    /**
+     * The {@code io.micrometer} artifacts that provide the {@link #HISTOGRAM_REGISTRIES}.
+     */
+    private static final List<String> HISTOGRAM_REGISTRY_ARTIFACTS = Arrays.asList(
+            "micrometer-registry-prometheus",
+            "micrometer-registry-prometheus-simpleclient",
+            "micrometer-registry-atlas",
+            "micrometer-registry-wavefront",
+            "micrometer-registry-otlp"
+    );
+
+    @Option(displayName = "Keep percentiles without a histogram backend",
+            description = "Leave client-side percentiles in place when the repository configures no registry that can " +
+                          "aggregate percentile histograms, such as Prometheus, Atlas, Wavefront or OTLP. Defaults to false.",
+            required = false)
+    @Nullable
+    Boolean keepPercentilesWithoutHistogramBackend;
+
+    @Getter
+    String displayName = "Use percentile histograms instead of client-side percentiles";
+
+    @Getter
+    String description = "Replace `publishPercentiles(..)` on `Timer` and `DistributionSummary` builders, and " +
+                         "`@Timed(percentiles = ..)`, with percentile histograms. Client-side percentiles keep a rotating " +
+                         "histogram per meter and tag combination, and can't be aggregated across instances.";
+
+    @Override
+    public AtomicBoolean getInitialValue(ExecutionContext ctx) {
+        return new AtomicBoolean();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(AtomicBoolean histogramBackend) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!Boolean.TRUE.equals(keepPercentilesWithoutHistogramBackend) || histogramBackend.get()) {
+                    return tree;
+                }
+                if (tree instanceof JavaSourceFile) {
+                    for (JavaType type : ((JavaSourceFile) tree).getTypesInUse().getTypesInUse()) {
+                        JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+                        if (fq != null && HISTOGRAM_REGISTRIES.contains(fq.getFullyQualifiedName())) {
+                            histogramBackend.set(true);
+                        }
+                    }
+                } else if (tree instanceof SourceFile) {
+                    // Maven and Gradle build files, by the dependencies resolved for them rather than their text
+                    Markers markers = ((SourceFile) tree).getMarkers();
+                    markers.findFirst(MavenResolutionResult.class).ifPresent(maven -> {
+                        for (List<ResolvedDependency> dependencies : maven.getDependencies().values()) {
+                            histogramBackend.compareAndSet(false, hasHistogramRegistry(dependencies));
+                        }
+                    });
+                    markers.findFirst(GradleProject.class).ifPresent(gradle -> {
+                        for (GradleDependencyConfiguration configuration : gradle.getConfigurations()) {
+                            histogramBackend.compareAndSet(false, hasHistogramRegistry(configuration.getResolved()));
+                        }
+                    });
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(AtomicBoolean histogramBackend) {
+        if (Boolean.TRUE.equals(keepPercentilesWithoutHistogramBackend) && !histogramBackend.get()) {
+            return TreeVisitor.noop();
+        }
+        return RecipeInstrumentation.check(this, InstrumentationTypesInUse.uses(InstrumentationTypesInUse.Library.MICROMETER), new JavaVisitor<ExecutionContext>() {
+            @Override
+            public J visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = (J.MethodInvocation) super.visitMethodInvocation(method, ctx);
+                String builderType = TIMER_PERCENTILES.matches(m) ? "io.micrometer.core.instrument.Timer.Builder" :
+                        SUMMARY_PERCENTILES.matches(m) ? "io.micrometer.core.instrument.DistributionSummary.Builder" : null;
+                if (builderType == null || m.getSelect() == null) {
+                    return m;
+                }
+                RecipeInstrumentation.match(ctx, UsePercentileHistograms.this);
+                if (MeterRegistrations.chainCalls(m.getSelect(), "publishPercentileHistogram") ||
+                    MeterRegistrations.laterInChainCalls(getCursor(), "publishPercentileHistogram")) {
+                    return m.getSelect();
+                }
+                J.MethodInvocation histogram = JavaTemplate.builder("#{any(" + builderType + ")}.publishPercentileHistogram()")
+                        .javaParser(ParserCache.get(ctx).classpathFromResources(ctx, "micrometer-core"))
+                        .build()
+                        .apply(getCursor(), m.getCoordinates().replace(), m.getSelect());
+                // keep the call on its own line when the chain is split over several
+                return histogram.getPadding().withSelect(Objects.requireNonNull(histogram.getPadding().getSelect())
+                        .withAfter(Objects.requireNonNull(m.getPadding().getSelect()).getAfter()));
+            }
+
+            @Override
+            public J visitAnnotation(J.Annotation annotation, ExecutionContext ctx) {
+                J.Annotation a = (J.Annotation) super.visitAnnotation(annotation, ctx);
+                if (!TypeUtils.isOfClassType(a.getType(), TIMED) || a.getArguments() == null) {
+                    return a;
+                }
+                J.Assignment percentiles = attribute(a, "percentiles");
+                if (percentiles == null) {
+                    return a;
+                }
+                RecipeInstrumentation.match(ctx, UsePercentileHistograms.this);
+                J.Assignment histogram = attribute(a, "histogram");
+                List<Expression> arguments = new ArrayList<>();
+                for (Expression argument : a.getArguments()) {
+                    if (argument == percentiles) {
+                        if (histogram == null) {
+                            arguments.add(percentiles
+                                    .withVariable(((J.Identifier) percentiles.getVariable()).withSimpleName("histogram"))
+                                    .withAssignment(trueLiteral(percentiles.getAssignment().getPrefix())));
+                        }
+                    } else if (argument == histogram) {
+                        arguments.add(histogram.withAssignment(trueLiteral(histogram.getAssignment().getPrefix())));
+                    } else {
+                        arguments.add(argument);
+                    }
+                }
+                if (!arguments.isEmpty() && arguments.get(0) != a.getArguments().get(0)) {
+                    arguments.set(0, arguments.get(0).withPrefix(a.getArguments().get(0).getPrefix()));
+                }
+                return a.withArguments(arguments);
+            }
+        });
+    }
+
+    private static boolean hasHistogramRegistry(List<ResolvedDependency> dependencies) {
+        for (ResolvedDependency dependency : dependencies) {
+            if ("io.micrometer".equals(dependency.getGroupId()) &&
+                HISTOGRAM_REGISTRY_ARTIFACTS.contains(dependency.getArtifactId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static J.@Nullable Assignment attribute(J.Annotation annotation, String name) {
+        if (annotation.getArguments() == null) {
+            return null;
+        }
+        for (Expression argument : annotation.getArguments()) {
+            if (argument instanceof J.Assignment && ((J.Assignment) argument).getVariable() instanceof J.Identifier &&
+                name.equals(((J.Identifier) ((J.Assignment) argument).getVariable()).getSimpleName())) {
+                return (J.Assignment) argument;
+            }
+        }
+        return null;
+    }
+
+    private static J.Literal trueLiteral(Space prefix) {
+        return new J.Literal(Tree.randomId(), prefix, Markers.EMPTY, true, "true", null, JavaType.Primitive.Boolean);
+    }
+}
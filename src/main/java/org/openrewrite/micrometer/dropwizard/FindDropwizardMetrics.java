@@ -15,44 +15,270 @@
  */
 package org.openrewrite.micrometer.dropwizard;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
 import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
+import org.openrewrite.Validated;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaSourceFile;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
 import org.openrewrite.marker.SearchResult;
+import org.openrewrite.micrometer.InstrumentationTypesInUse;
+import org.openrewrite.micrometer.RecipeInstrumentation;
 import org.openrewrite.micrometer.table.DropwizardMetricsInUse;
+import org.openrewrite.micrometer.table.DropwizardMetricsSummary;
+import org.openrewrite.micrometer.table.ResultCacheStatistics;
 
+import java.nio.file.Paths;
+import java.util.*;
+
+@Value
+@EqualsAndHashCode(callSuper = false)
 public class FindDropwizardMetrics extends Recipe {
-    final transient DropwizardMetricsInUse metrics = new DropwizardMetricsInUse(this);
+    private static final String MATCHES = "MATCHES";
+    private static final MethodMatcher METRIC_REGISTRY = new MethodMatcher("com.codahale.metrics.MetricRegistry *(..)");
+
+    /**
+     * The metric type found for each {@code MetricRegistry} method, with {@code register} resolved from the type
+     * of the registered metric.
+     */
+    private static final Map<String, String> METRIC_TYPES;
+
+    static {
+        Map<String, String> metricTypes = new HashMap<>();
+        metricTypes.put("counter", "Counter");
+        metricTypes.put("gauge", "Gauge");
+        metricTypes.put("meter", "Meter");
+        metricTypes.put("histogram", "Histogram");
+        metricTypes.put("timer", "Timer");
+        metricTypes.put("register", "Metric");
+        // the static name(..) helpers that build the dotted names metrics are registered under
+        metricTypes.put("name", "Name");
+        METRIC_TYPES = Collections.unmodifiableMap(metricTypes);
+    }
+
+    transient DropwizardMetricsInUse metrics = new DropwizardMetricsInUse(this);
+    transient DropwizardMetricsSummary summary = new DropwizardMetricsSummary(this);
+    transient ResultCacheStatistics cacheStatistics = new ResultCacheStatistics(this);
+
+    @Option(displayName = "Aggregate",
+            description = "Report the number of metrics per source path, metric type and literal metric name " +
+                          "instead of one row per call site.",
+            required = false)
+    @Nullable
+    Boolean aggregate;
+
+    @Option(displayName = "Maximum snippet length",
+            description = "Truncate the code of each call site in the data table to this many characters, including " +
+                          "the trailing `...`, so at least 4. Set to 0 to not capture the code at all. Defaults to the full code.",
+            example = "120",
+            required = false)
+    @Nullable
+    Integer maxSnippetLength;
+
+    @Option(displayName = "Cache directory",
+            description = "A local directory in which the source files without Dropwizard metrics are recorded between runs. " +
+                          "Such source files are skipped while their checksum, or size and modification time, their classpath " +
+                          "and the version of this recipe are unchanged. Source files with metrics are always searched and marked again.",
+            example = "build/rewrite/dropwizard-metrics",
+            required = false)
+    @Nullable
+    String cacheDirectory;
 
     @Getter
-    final String displayName = "Find Dropwizard metrics";
+    String displayName = "Find Dropwizard metrics";
 
     @Getter
-    final String description = "Find uses of Dropwizard metrics that could be converted to a more modern metrics instrumentation library.";
+    String description = "Find uses of Dropwizard metrics that could be converted to a more modern metrics instrumentation library.";
+
+    public FindDropwizardMetrics() {
+        this(null, null, null);
+    }
+
+    @JsonCreator
+    public FindDropwizardMetrics(@Nullable Boolean aggregate, @Nullable Integer maxSnippetLength, @Nullable String cacheDirectory) {
+        this.aggregate = aggregate;
+        this.maxSnippetLength = maxSnippetLength;
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    @Override
+    public Validated<Object> validate() {
+        return super.validate().and(Validated.test("maxSnippetLength", "Must be 0 or greater than 3",
+                maxSnippetLength, l -> l == null || l == 0 || l > 3));
+    }
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        MethodMatcher counter = new MethodMatcher("com.codahale.metrics.MetricRegistry counter(..)");
-        MethodMatcher gauge = new MethodMatcher("com.codahale.metrics.MetricRegistry gauge(..)");
+        ResultCache cache = cacheDirectory == null ? null : new ResultCache(Paths.get(cacheDirectory));
+        return RecipeInstrumentation.check(this, InstrumentationTypesInUse.uses(InstrumentationTypesInUse.Library.DROPWIZARD), new JavaIsoVisitor<ExecutionContext>() {
+            private final @Nullable String cacheSalt = cache == null ? null : cacheSalt(getClass());
+
+            @Override
+            public @Nullable J visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (!(tree instanceof JavaSourceFile)) {
+                    return super.visit(tree, ctx);
+                }
+                JavaSourceFile sourceFile = (JavaSourceFile) tree;
+                String key = cache == null || cacheSalt == null ? null : cache.key(sourceFile, cacheSalt, ctx);
+                boolean noFindings = key != null && cache.hasNoFindings(key);
+                if (key != null) {
+                    cacheStatistics.insertRow(ctx, new ResultCacheStatistics.Row(sourceFile.getSourcePath().toString(), noFindings));
+                }
+                if (noFindings) {
+                    return sourceFile;
+                }
+
+                List<Match> matches = new ArrayList<>();
+                getCursor().putMessage(MATCHES, matches);
+                J j = super.visit(tree, ctx);
+                if (key != null && matches.isEmpty()) {
+                    cache.recordNoFindings(key);
+                }
+                report(ctx, sourceFile, matches);
+                return j;
+            }
 
-        return new JavaIsoVisitor<ExecutionContext>() {
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                if (counter.matches(method) || gauge.matches(method)) {
-                    String metricType = counter.matches(method) ? "Counter" : "Gauge";
-                    metrics.insertRow(ctx, new DropwizardMetricsInUse.Row(
-                            getCursor().firstEnclosingOrThrow(J.CompilationUnit.class).getSourcePath().toString(),
-                            metricType,
-                            method.printTrimmed(getCursor().getParent())
-                    ));
-                    return SearchResult.found(method, metricType);
+                // Metrics registered in the arguments, such as a counter passed to register, are found first
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                String metricType = METRIC_TYPES.get(method.getSimpleName());
+                if (metricType != null && METRIC_REGISTRY.matches(method)) {
+                    if ("register".equals(method.getSimpleName())) {
+                        metricType = registeredMetricType(method, metricType);
+                    }
+                    List<Match> matches = getCursor().getNearestMessage(MATCHES);
+                    if (matches != null) {
+                        matches.add(new Match(metricType, literalMetricName(method), snippet(method)));
+                    }
+                    RecipeInstrumentation.match(ctx, FindDropwizardMetrics.this);
+                    return SearchResult.found(m, metricType);
+                }
+                return m;
+            }
+
+            private String snippet(J.MethodInvocation method) {
+                if (Boolean.TRUE.equals(aggregate) || maxSnippetLength != null && maxSnippetLength <= 0) {
+                    return "";
                 }
-                return super.visitMethodInvocation(method, ctx);
+                String code = method.printTrimmed(getCursor().getParent());
+                return maxSnippetLength == null || code.length() <= maxSnippetLength ?
+                        code :
+                        code.substring(0, maxSnippetLength - 3) + "...";
+            }
+        });
+    }
+
+    private void report(ExecutionContext ctx, JavaSourceFile sourceFile, List<Match> matches) {
+        String sourcePath = sourceFile.getSourcePath().toString();
+        if (!Boolean.TRUE.equals(aggregate)) {
+            for (Match match : matches) {
+                metrics.insertRow(ctx, new DropwizardMetricsInUse.Row(sourcePath, match.getMetricType(), match.getMetricCode()));
+            }
+            return;
+        }
+        Map<MetricKey, Integer> counts = new LinkedHashMap<>();
+        for (Match match : matches) {
+            counts.merge(new MetricKey(match.getMetricType(), match.getMetricName()), 1, Integer::sum);
+        }
+        counts.forEach((key, count) -> summary.insertRow(ctx, new DropwizardMetricsSummary.Row(
+                sourcePath,
+                key.getMetricType(),
+                key.getMetricName(),
+                count
+        )));
+    }
+
+    /**
+     * @return The recipe code and the versions of this module and of the Java language support that the cached
+     * results depend on, or {@code null} to not cache anything when the code can't be read.
+     */
+    private static @Nullable String cacheSalt(Class<?> visitor) {
+        String code = ResultCache.hash(FindDropwizardMetrics.class, visitor);
+        return code == null ? null : code + ":" + ResultCache.version(FindDropwizardMetrics.class) + ":" +
+                                     ResultCache.version(JavaIsoVisitor.class);
+    }
+
+    private static @Nullable String literalMetricName(J.MethodInvocation method) {
+        if ("name".equals(method.getSimpleName())) {
+            return literalName(method);
+        }
+        if (method.getArguments().isEmpty()) {
+            return null;
+        }
+        Expression name = method.getArguments().get(0);
+        if (name instanceof J.MethodInvocation && "name".equals(((J.MethodInvocation) name).getSimpleName()) &&
+            METRIC_REGISTRY.matches(name)) {
+            return literalName((J.MethodInvocation) name);
+        }
+        if (name instanceof J.Literal) {
+            Object value = ((J.Literal) name).getValue();
+            return value instanceof String ? (String) value : null;
+        }
+        return null;
+    }
+
+    /**
+     * @return The name {@code MetricRegistry.name(..)} builds when all of its parts are string literals, joined with
+     * dots and skipping empty parts like it does, or {@code null} when any part is only known at run time.
+     */
+    private static @Nullable String literalName(J.MethodInvocation name) {
+        StringJoiner joined = new StringJoiner(".");
+        for (Expression part : name.getArguments()) {
+            if (!(part instanceof J.Literal)) {
+                return null;
             }
-        };
+            Object value = ((J.Literal) part).getValue();
+            if (value != null && !(value instanceof String)) {
+                return null;
+            }
+            if (value != null && !((String) value).isEmpty()) {
+                joined.add((String) value);
+            }
+        }
+        return joined.toString();
+    }
+
+    private static String registeredMetricType(J.MethodInvocation register, String defaultType) {
+        if (register.getArguments().size() != 2) {
+            return defaultType;
+        }
+        JavaType metric = register.getArguments().get(1).getType();
+        for (String metricType : new String[]{"Counter", "Gauge", "Meter", "Histogram", "Timer"}) {
+            if (TypeUtils.isAssignableTo("com.codahale.metrics." + metricType, metric)) {
+                return metricType;
+            }
+        }
+        return defaultType;
+    }
+
+    @Value
+    private static class Match {
+        String metricType;
+
+        @Nullable
+        String metricName;
+
+        String metricCode;
+    }
+
+    @Value
+    private static class MetricKey {
+        String metricType;
+
+        @Nullable
+        String metricName;
     }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.dropwizard;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Checksum;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.FileAttributes;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.marker.JavaSourceSet;
+import org.openrewrite.java.tree.JavaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A local directory of the source files in which no metrics were found, keyed by a hash of what identifies the source
+ * file's content and of everything else that determines what is found in it, so that an unchanged file can be skipped.
+ * Files with metrics are always searched again, as only a visit can mark their call sites.
+ */
+class ResultCache {
+    private static final String CLASSPATH_HASHES = ResultCache.class.getName() + ".CLASSPATH_HASHES";
+
+    private final Path directory;
+
+    ResultCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @param sourceFile The source file whose results are cached.
+     * @param salt       The recipe code and versions the results depend on.
+     * @return A key that changes whenever the source file's path, checksum or size and modification time, classpath
+     * or the salt changes. {@code null} when the source file has neither a checksum nor file attributes, as hashing
+     * its printed content would cost about as much as searching it again.
+     */
+    @Nullable
+    String key(SourceFile sourceFile, String salt, ExecutionContext ctx) {
+        Checksum checksum = sourceFile.getChecksum();
+        FileAttributes attributes = sourceFile.getFileAttributes();
+        if (checksum == null && attributes == null) {
+            return null;
+        }
+        MessageDigest digest = sha256();
+        digest.update(salt.getBytes(StandardCharsets.UTF_8));
+        digest.update(classpath(sourceFile, ctx).getBytes(StandardCharsets.UTF_8));
+        digest.update(sourceFile.getSourcePath().toString().getBytes(StandardCharsets.UTF_8));
+        if (checksum != null) {
+            digest.update(checksum.getValue());
+        } else {
+            digest.update((attributes.getSize() + ":" + attributes.getLastModifiedTime()).getBytes(StandardCharsets.UTF_8));
+        }
+        return hex(digest.digest());
+    }
+
+    /**
+     * @return A hash of the bytecode of the classes, or {@code null} when any of them can't be read.
+     */
+    static @Nullable String hash(Class<?>... classes) {
+        MessageDigest digest = sha256();
+        for (Class<?> clazz : classes) {
+            String resource = clazz.getName().substring(clazz.getName().lastIndexOf('.') + 1) + ".class";
+            try (InputStream in = clazz.getResourceAsStream(resource)) {
+                if (in == null) {
+                    return null;
+                }
+                byte[] buffer = new byte[8192];
+                for (int n = in.read(buffer); n != -1; n = in.read(buffer)) {
+                    digest.update(buffer, 0, n);
+                }
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return hex(digest.digest());
+    }
+
+    /**
+     * @return The version of the library a class is loaded from, or where it is loaded from when the library has
+     * no version, such as when running from a build directory.
+     */
+    static String version(Class<?> clazz) {
+        String version = clazz.getPackage() == null ? null : clazz.getPackage().getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        return codeSource == null ? "unknown" : String.valueOf(codeSource.getLocation());
+    }
+
+    /**
+     * @return Whether the source file was found to have no metrics the last time it was searched.
+     */
+    boolean hasNoFindings(String key) {
+        return Files.exists(directory.resolve(key));
+    }
+
+    void recordNoFindings(String key) {
+        try {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve(key), new byte[0]);
+        } catch (IOException ignored) {
+            // the cache is best effort, the file is visited again on the next run
+        }
+    }
+
+    /**
+     * @return A hash of the types on the classpath the source file was attributed against, computed once per source set.
+     */
+    private static String classpath(SourceFile sourceFile, ExecutionContext ctx) {
+        JavaSourceSet sourceSet = sourceFile.getMarkers().findFirst(JavaSourceSet.class).orElse(null);
+        if (sourceSet == null) {
+            return "";
+        }
+        Map<UUID, String> hashes = ctx.computeMessageIfAbsent(CLASSPATH_HASHES, k -> new ConcurrentHashMap<>());
+        return hashes.computeIfAbsent(sourceSet.getId(), id -> {
+            List<String> types = new ArrayList<>();
+            for (JavaType.FullyQualified type : sourceSet.getClasspath()) {
+                types.add(type.getFullyQualifiedName());
+            }
+            Collections.sort(types);
+            MessageDigest digest = sha256();
+            for (String type : types) {
+                digest.update(type.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return hex(digest.digest());
+        });
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
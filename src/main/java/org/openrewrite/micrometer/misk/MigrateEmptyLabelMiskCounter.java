@@ -16,30 +16,45 @@
 package org.openrewrite.micrometer.misk;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import org.openrewrite.ExecutionContext;
-import org.openrewrite.Preconditions;
-import org.openrewrite.Recipe;
-import org.openrewrite.TreeVisitor;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
 import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaTemplate;
 import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.micrometer.InstrumentationTypesInUse;
+import org.openrewrite.micrometer.RecipeInstrumentation;
+import org.openrewrite.micrometer.UseInjectedMeterRegistry;
 
 import java.util.List;
 
 import static org.openrewrite.java.template.Semantics.expression;
 
+@Value
+@EqualsAndHashCode(callSuper = false)
 public class MigrateEmptyLabelMiskCounter extends Recipe {
 
+    @Option(displayName = "Use injected registry",
+            description = "Register the counter with the `MeterRegistry` parameter of the enclosing method or field of the " +
+                          "enclosing class, as `UseInjectedMeterRegistry` does, instead of `Metrics.globalRegistry`. " +
+                          "Falls back to the global registry when there is none.",
+            required = false)
+    @Nullable
+    Boolean useInjectedRegistry;
+
     @Getter
-    final String displayName = "Migrate Misk counter to Micrometer";
+    String displayName = "Migrate Misk counter to Micrometer";
 
     @Getter
-    final String description = "Convert a Misk (Prometheus) counter to a Micrometer counter.";
+    String description = "Convert a Misk (Prometheus) counter to a Micrometer counter.";
 
     @Override
     public List<Recipe> getRecipeList() {
@@ -48,7 +63,10 @@ public class MigrateEmptyLabelMiskCounter extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("misk.metrics.v2.Metrics", true), new JavaIsoVisitor<ExecutionContext>() {
+        return RecipeInstrumentation.check(this, Preconditions.and(
+                InstrumentationTypesInUse.uses(InstrumentationTypesInUse.Library.MISK),
+                new UsesType<>("misk.metrics.v2.Metrics", true)
+        ), new JavaIsoVisitor<ExecutionContext>() {
             final MethodMatcher miskCounter = new MethodMatcher("misk.metrics.v2.Metrics counter(..)");
 
             @Override
@@ -65,13 +83,29 @@ public class MigrateEmptyLabelMiskCounter extends Recipe {
                     if (!emptyLabel) {
                         return m;
                     }
-                    m = expression(
-                            this, "micrometerCounter",
-                            (String name, String help) -> Counter.builder(name).description(help).register(Metrics.globalRegistry)
-                    ).build().apply(getCursor(),
-                            method.getCoordinates().replace(),
-                            method.getArguments().get(0),
-                            method.getArguments().get(1));
+                    J.Identifier registry = Boolean.TRUE.equals(useInjectedRegistry) ?
+                            UseInjectedMeterRegistry.registryInScope(getCursor()) : null;
+                    if (registry == null) {
+                        JavaTemplate micrometerCounter = expression(
+                                this, "micrometerCounter",
+                                (String name, String help) -> Counter.builder(name).description(help).register(Metrics.globalRegistry)
+                        ).build();
+                        m = RecipeInstrumentation.<J.MethodInvocation>template(ctx, MigrateEmptyLabelMiskCounter.this, () -> micrometerCounter.apply(getCursor(),
+                                method.getCoordinates().replace(),
+                                method.getArguments().get(0),
+                                method.getArguments().get(1)));
+                    } else {
+                        JavaTemplate injectedCounter = expression(
+                                this, "injectedCounter",
+                                (String name, String help, MeterRegistry meterRegistry) -> Counter.builder(name).description(help).register(meterRegistry)
+                        ).build();
+                        m = RecipeInstrumentation.<J.MethodInvocation>template(ctx, MigrateEmptyLabelMiskCounter.this, () -> injectedCounter.apply(getCursor(),
+                                method.getCoordinates().replace(),
+                                method.getArguments().get(0),
+                                method.getArguments().get(1),
+                                registry));
+                    }
+                    RecipeInstrumentation.match(ctx, MigrateEmptyLabelMiskCounter.this);
 
                     maybeRemoveImport("misk.metrics.v2.Metrics");
                     maybeAddImport("io.micrometer.core.instrument.Counter");
@@ -17,18 +17,19 @@ package org.openrewrite.micrometer.misk;
 
 import lombok.Getter;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
-import org.openrewrite.java.JavaParser;
-import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.MethodMatcher;
+import org.openrewrite.java.search.UsesType;
+import org.openrewrite.java.tree.Expression;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
-
-import java.util.Arrays;
-import java.util.List;
+import org.openrewrite.micrometer.InstrumentationTypesInUse;
+import org.openrewrite.micrometer.RecipeInstrumentation;
 
 import static java.util.Collections.emptyList;
 
@@ -42,26 +43,19 @@ public class NoExplicitEmptyLabelList extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return new JavaIsoVisitor<ExecutionContext>() {
-            final List<JavaTemplate> hasEmptyLabel = Arrays.asList(
-                    JavaTemplate.builder("#{m:any(misk.metrics.v2.Metrics)}.counter(#{s:any(java.lang.String)}, #{s1:any(java.lang.String)}, listOf())")
-                            .staticImports("kotlin.collections.CollectionsKt.listOf")
-                            .javaParser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()))
-                            .build(),
-                    JavaTemplate.builder("#{m:any(misk.metrics.v2.Metrics)}.gauge(#{s:any(java.lang.String)}, #{s1:any(java.lang.String)}, listOf())")
-                            .staticImports("kotlin.collections.CollectionsKt.listOf")
-                            .javaParser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()))
-                            .build(),
-                    JavaTemplate.builder("#{m:any(misk.metrics.v2.Metrics)}.peakGauge(#{s:any(java.lang.String)}, #{s1:any(java.lang.String)}, listOf())")
-                            .staticImports("kotlin.collections.CollectionsKt.listOf")
-                            .javaParser(JavaParser.fromJavaVersion().classpath(JavaParser.runtimeClasspath()))
-                            .build());
+        return RecipeInstrumentation.check(this, Preconditions.and(
+                InstrumentationTypesInUse.uses(InstrumentationTypesInUse.Library.MISK),
+                new UsesType<>("misk.metrics.v2.Metrics", true)
+        ), new JavaIsoVisitor<ExecutionContext>() {
+            final MethodMatcher miskMetric = new MethodMatcher("misk.metrics.v2.Metrics *(String, String, ..)");
 
             @Override
             public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
-                if (method.getSelect() != null &&
-                    TypeUtils.isOfClassType(method.getSelect().getType(), "misk.metrics.v2.Metrics") &&
-                    hasEmptyLabel.stream().anyMatch(tmpl -> tmpl.matches(getCursor()))) {
+                if (method.getArguments().size() == 3 &&
+                    isLabelledMetric(method.getSimpleName()) &&
+                    isEmptyListOf(method.getArguments().get(2)) &&
+                    miskMetric.matches(method)) {
+                    RecipeInstrumentation.match(ctx, NoExplicitEmptyLabelList.this);
                     JavaType.Method methodType = method.getMethodType();
                     if (methodType != null) {
                         methodType = methodType.withParameterNames(emptyList()).withParameterTypes(emptyList());
@@ -73,6 +67,22 @@ public class NoExplicitEmptyLabelList extends Recipe {
                 }
                 return super.visitMethodInvocation(method, ctx);
             }
-        };
+
+            private boolean isLabelledMetric(String name) {
+                return "counter".equals(name) || "gauge".equals(name) || "peakGauge".equals(name);
+            }
+
+            private boolean isEmptyListOf(Expression labels) {
+                if (!(labels instanceof J.MethodInvocation)) {
+                    return false;
+                }
+                J.MethodInvocation listOf = (J.MethodInvocation) labels;
+                JavaType.Method listOfType = listOf.getMethodType();
+                return listOfType != null &&
+                       "listOf".equals(listOfType.getName()) &&
+                       TypeUtils.isOfClassType(listOfType.getDeclaringType(), "kotlin.collections.CollectionsKt") &&
+                       listOf.getArguments().stream().allMatch(J.Empty.class::isInstance);
+            }
+        });
     }
 }
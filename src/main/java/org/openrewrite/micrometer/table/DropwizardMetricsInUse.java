@@ -18,11 +18,10 @@ package org.openrewrite.micrometer.table;
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
 import lombok.Value;
 import org.openrewrite.Column;
-import org.openrewrite.DataTable;
 import org.openrewrite.Recipe;
 
 @JsonIgnoreType
-public class DropwizardMetricsInUse extends DataTable<DropwizardMetricsInUse.Row> {
+public class DropwizardMetricsInUse extends SynchronizedDataTable<DropwizardMetricsInUse.Row> {
 
     public DropwizardMetricsInUse(Recipe recipe) {
         super(recipe, "Dropwizard metrics in use",
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class DropwizardMetricsSummary extends SynchronizedDataTable<DropwizardMetricsSummary.Row> {
+
+    public DropwizardMetricsSummary(Recipe recipe) {
+        super(recipe, "Dropwizard metrics summary",
+                "The number of Dropwizard metrics per source file, metric type and metric name.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path", description = "The file that uses the metrics.")
+        String sourcePath;
+
+        @Column(displayName = "Metric type", description = "The type of metric.")
+        String metricType;
+
+        @Column(displayName = "Metric name",
+                description = "The name of the metric when it is a literal, or empty when it is computed.")
+        @Nullable
+        String metricName;
+
+        @Column(displayName = "Count", description = "The number of call sites.")
+        int count;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class ExpensiveGaugeFunctions extends SynchronizedDataTable<ExpensiveGaugeFunctions.Row> {
+
+    public ExpensiveGaugeFunctions(Recipe recipe) {
+        super(recipe, "Expensive gauge functions",
+                "Gauge, time gauge and function counter value functions that reach database, file, network or synchronized " +
+                "code, which runs on every scrape or publish.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path", description = "The file that defines the meter.")
+        String sourcePath;
+
+        @Column(displayName = "Meter name", description = "The name of the meter, or the code computing it.")
+        String meterName;
+
+        @Column(displayName = "Meter type", description = "`Gauge`, `TimeGauge` or `FunctionCounter`.")
+        String meterType;
+
+        @Column(displayName = "Category",
+                description = "What the value function reaches: `JDBC`, `file`, `HTTP` or `synchronized`.")
+        String category;
+
+        @Column(displayName = "Call path",
+                description = "The methods of the compilation unit called on the way from the value function to the " +
+                              "expensive code, such as `countOrders -> Statement.executeQuery`.")
+        String callPath;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class HighCardinalityTags extends SynchronizedDataTable<HighCardinalityTags.Row> {
+
+    public HighCardinalityTags(Recipe recipe) {
+        super(recipe, "High cardinality tags",
+                "Tags whose values are not from a bounded set, which risk an explosion of time series when used on meters.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path", description = "The file that tags the meter.")
+        String sourcePath;
+
+        @Column(displayName = "Meter name", description = "The code of the meter name.")
+        String meterName;
+
+        @Column(displayName = "Tag key",
+                description = "The code of the tag key, or empty when the keys come from a collection of tags.")
+        String tagKey;
+
+        @Column(displayName = "Tag value", description = "The code of the tag value.")
+        String tagValue;
+
+        @Column(displayName = "Reason",
+                description = "Why the value is unbounded, such as `request path`, `identifier` or `method parameter`.")
+        String reason;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class HistogramBucketReductions extends SynchronizedDataTable<HistogramBucketReductions.Row> {
+
+    public HistogramBucketReductions(Recipe recipe) {
+        super(recipe, "Histogram bucket reductions",
+                "Percentile histograms bounded to an expected range of values, and the buckets each one publishes per tag combination before and after.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path", description = "The file that builds the meter.")
+        String sourcePath;
+
+        @Column(displayName = "Meter name", description = "The name of the meter.")
+        String meterName;
+
+        @Column(displayName = "Meter type", description = "`Timer` or `DistributionSummary`.")
+        String meterType;
+
+        @Column(displayName = "Buckets before", description = "The number of histogram buckets published before the change.")
+        int bucketsBefore;
+
+        @Column(displayName = "Buckets after", description = "The number of histogram buckets published after the change.")
+        int bucketsAfter;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class MaximumAllowableTagsGuards extends SynchronizedDataTable<MaximumAllowableTagsGuards.Row> {
+
+    public MaximumAllowableTagsGuards(Recipe recipe) {
+        super(recipe, "Maximum allowable tags guards",
+                "`MeterFilter.maximumAllowableTags` filters added where a registry is constructed, to bound the " +
+                "number of series of meters tagged with unbounded values.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path", description = "The file in which the registry is constructed.")
+        String sourcePath;
+
+        @Column(displayName = "Meter name", description = "The name of the guarded meter.")
+        String meterName;
+
+        @Column(displayName = "Tag key", description = "The key of the unbounded tag.")
+        String tagKey;
+
+        @Column(displayName = "Limit", description = "The maximum number of values of the tag that are kept.")
+        int limit;
+
+        @Column(displayName = "Reason",
+                description = "Why the tag value is unbounded, such as `request path`, `identifier` or `method parameter`.")
+        String reason;
+    }
+}
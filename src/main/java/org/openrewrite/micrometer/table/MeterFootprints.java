@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class MeterFootprints extends SynchronizedDataTable<MeterFootprints.Row> {
+
+    public MeterFootprints(Recipe recipe) {
+        super(recipe, "Meter footprints",
+                "The time series each meter definition is estimated to publish and the registry memory it is estimated to take.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path", description = "The file that defines the meter.")
+        String sourcePath;
+
+        @Column(displayName = "Module", description = "The project the meter is defined in.")
+        String module;
+
+        @Column(displayName = "Meter name", description = "The name of the meter, or the code computing it.")
+        String meterName;
+
+        @Column(displayName = "Meter type", description = "The type of meter, such as `Counter` or `Timer`.")
+        String meterType;
+
+        @Column(displayName = "Tag keys", description = "The number of tag keys the meter is defined with.")
+        int tagKeys;
+
+        @Column(displayName = "Tag combinations",
+                description = "The estimated number of distinct combinations of tag values, the product of the estimated " +
+                              "number of values of each tag.")
+        long tagCombinations;
+
+        @Column(displayName = "Distribution",
+                description = "The histogram buckets, service level objectives and percentiles published, such as " +
+                              "`66 histogram buckets, 3 percentiles`. Empty when none are.")
+        String distribution;
+
+        @Column(displayName = "Estimated series", description = "The estimated number of time series published for the meter.")
+        long estimatedSeries;
+
+        @Column(displayName = "Estimated bytes", description = "The estimated registry heap taken by the meter, across all tag combinations.")
+        long estimatedBytes;
+    }
+}
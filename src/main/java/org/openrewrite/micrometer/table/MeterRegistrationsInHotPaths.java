@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class MeterRegistrationsInHotPaths extends SynchronizedDataTable<MeterRegistrationsInHotPaths.Row> {
+
+    public MeterRegistrationsInHotPaths(Recipe recipe) {
+        super(recipe, "Meter registrations in hot paths",
+                "Meters registered or looked up on every loop iteration, lambda invocation or request, rather than once.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path", description = "The file that registers the meter.")
+        String sourcePath;
+
+        @Column(displayName = "Enclosing method",
+                description = "The class and method the registration is made in, such as `OrderController#create`.")
+        String enclosingMethod;
+
+        @Column(displayName = "Hot path",
+                description = "The innermost construct that repeats the registration: `for`, `for-each`, `while`, " +
+                              "`do-while`, `stream`, `lambda` or `request mapping`.")
+        String hotPath;
+
+        @Column(displayName = "Meter type", description = "The type of meter, such as `Counter` or `Timer`.")
+        String meterType;
+
+        @Column(displayName = "Registration code",
+                description = "The code of the registration as it is used in the source file.")
+        String registrationCode;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class ModuleMeterFootprints extends SynchronizedDataTable<ModuleMeterFootprints.Row> {
+
+    public ModuleMeterFootprints(Recipe recipe) {
+        super(recipe, "Module meter footprints",
+                "The estimated time series and registry memory of all meters defined in each module.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Module", description = "The project the meters are defined in.")
+        String module;
+
+        @Column(displayName = "Meters", description = "The number of meter definitions found.")
+        int meters;
+
+        @Column(displayName = "Estimated series", description = "The estimated number of time series published by the module's meters.")
+        long estimatedSeries;
+
+        @Column(displayName = "Estimated bytes", description = "The estimated registry heap taken by the module's meters.")
+        long estimatedBytes;
+    }
+}
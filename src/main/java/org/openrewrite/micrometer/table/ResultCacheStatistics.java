@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.table;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.Recipe;
+
+@JsonIgnoreType
+public class ResultCacheStatistics extends SynchronizedDataTable<ResultCacheStatistics.Row> {
+
+    public ResultCacheStatistics(Recipe recipe) {
+        super(recipe, "Result cache statistics",
+                "Whether each source file was skipped as having no results when it was last searched, or searched for again.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Source path", description = "The file that was searched.")
+        String sourcePath;
+
+        @Column(displayName = "Cache hit",
+                description = "True when the file was unchanged since it was found to have no results, false when it was searched.")
+        boolean cacheHit;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer.table;
+
+import org.openrewrite.*;
+
+/**
+ * A data table that can be written to from visitors running on many threads against one shared
+ * {@link ExecutionContext}. The rows of every data table are kept in a single {@link DataTableStore}, so inserts
+ * are serialized on that store, and runs against other contexts don't wait on each other. The store is
+ * created with {@link ExecutionContext#computeMessageIfAbsent}, like the other messages the recipes of this
+ * module share between threads.
+ */
+public abstract class SynchronizedDataTable<Row> extends DataTable<Row> {
+
+    protected SynchronizedDataTable(Recipe recipe, String displayName, String description) {
+        super(recipe, displayName, description);
+    }
+
+    @Override
+    public void insertRow(ExecutionContext ctx, Row row) {
+        // created here rather than by the first inserts, which would each create their own when run concurrently
+        DataTableStore store = ctx.computeMessageIfAbsent(DataTableExecutionContextView.DATA_TABLE_STORE, k -> new InMemoryDataTableStore());
+        synchronized (store) {
+            super.insertRow(ctx, row);
+        }
+    }
+}
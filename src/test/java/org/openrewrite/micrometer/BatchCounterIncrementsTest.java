@@ -0,0 +1,250 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class BatchCounterIncrementsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new BatchCounterIncrements())
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void loopOnlyIncrements() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Counter;
+
+              import java.util.List;
+
+              class Test {
+                  void received(List<String> items, Counter counter) {
+                      for (String item : items) {
+                          counter.increment();
+                      }
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Counter;
+
+              import java.util.List;
+
+              class Test {
+                  void received(List<String> items, Counter counter) {
+                      counter.increment(items.size());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void incrementAfterLoopOverArray() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Counter;
+
+              class Test {
+                  private final Counter processed;
+
+                  Test(Counter processed) {
+                      this.processed = processed;
+                  }
+
+                  private String last;
+
+                  void process(String[] items) {
+                      for (String item : items) {
+                          last = item;
+                          processed.increment();
+                      }
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Counter;
+
+              class Test {
+                  private final Counter processed;
+
+                  Test(Counter processed) {
+                      this.processed = processed;
+                  }
+
+                  private String last;
+
+                  void process(String[] items) {
+                      for (String item : items) {
+                          last = item;
+                      }
+                      processed.increment(items.length);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void forEachLambda() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Counter;
+
+              import java.util.Set;
+
+              class Test {
+                  void received(Set<String> items, Counter counter) {
+                      items.forEach(item -> counter.increment());
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Counter;
+
+              import java.util.Set;
+
+              class Test {
+                  void received(Set<String> items, Counter counter) {
+                      counter.increment(items.size());
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void earlyExitOrConditionalIncrement() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Counter;
+
+              import java.util.List;
+
+              class Test {
+                  void received(List<String> items, Counter counter) {
+                      for (String item : items) {
+                          if (item.isEmpty()) {
+                              break;
+                          }
+                          counter.increment();
+                      }
+                      for (String item : items) {
+                          if (!item.isEmpty()) {
+                              counter.increment();
+                          }
+                      }
+                      items.forEach(item -> {
+                          if (item.isEmpty()) {
+                              return;
+                          }
+                          counter.increment();
+                      });
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void itemsChangedInBody() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Counter;
+
+              import java.util.ArrayList;
+              import java.util.List;
+              import java.util.Map;
+
+              class Test {
+                  void received(List<String> items, Map<String, Integer> sizes, Counter counter) {
+                      for (String item : new ArrayList<>(items)) {
+                          counter.increment();
+                      }
+                      for (String item : items) {
+                          items.remove(item);
+                          counter.increment();
+                      }
+                      sizes.forEach((item, size) -> {
+                          sizes.put(item, size + 1);
+                          counter.increment();
+                      });
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void bodyThatMayThrow() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Counter;
+
+              import java.util.List;
+
+              class Test {
+                  int total;
+
+                  void received(List<String> items, List<Integer> sizes, Counter counter) {
+                      for (String item : items) {
+                          counter.increment();
+                          handle(item);
+                      }
+                      for (int size : sizes) {
+                          counter.increment();
+                      }
+                      for (Integer size : sizes) {
+                          total += size;
+                          counter.increment();
+                      }
+                  }
+
+                  void handle(String item) {
+                  }
+              }
+              """
+          )
+        );
+    }
+}
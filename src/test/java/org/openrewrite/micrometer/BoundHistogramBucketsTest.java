@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.micrometer.table.HistogramBucketReductions;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class BoundHistogramBucketsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new BoundHistogramBuckets(null, null, null))
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void timerWithTighterMaximum() {
+        rewriteRun(
+          spec -> spec.recipe(new BoundHistogramBuckets(null, null, 5000L))
+            .dataTable(HistogramBucketReductions.Row.class, list ->
+              assertThat(list).containsExactly(new HistogramBucketReductions.Row("Test.java", "http", "Timer", 66, 55))),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  Timer timer(MeterRegistry registry) {
+                      return Timer.builder("http").publishPercentileHistogram().register(registry);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              import java.time.Duration;
+
+              class Test {
+                  Timer timer(MeterRegistry registry) {
+                      return Timer.builder("http").publishPercentileHistogram().minimumExpectedValue(Duration.ofMillis(1)).maximumExpectedValue(Duration.ofSeconds(5)).register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void timerDefaultsUnchanged() {
+        rewriteRun(
+          spec -> spec.recipe(new BoundHistogramBuckets(null, 1L, 30000L)),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  Timer timer(MeterRegistry registry) {
+                      return Timer.builder("http").publishPercentileHistogram().register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void timerWithoutBoundsUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  Timer timer(MeterRegistry registry) {
+                      return Timer.builder("http").publishPercentileHistogram().register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void summaryWithBounds() {
+        rewriteRun(
+          spec -> spec.recipe(new BoundHistogramBuckets("payload.*", 64L, 1048576L))
+            .dataTable(HistogramBucketReductions.Row.class, list ->
+              assertThat(list).containsExactly(new HistogramBucketReductions.Row("Test.java", "payload.size", "DistributionSummary", 276, 64))),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.DistributionSummary;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  void summaries(MeterRegistry registry) {
+                      DistributionSummary.builder("payload.size").publishPercentileHistogram().register(registry);
+                      DistributionSummary.builder("queue.depth").publishPercentileHistogram().register(registry);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.DistributionSummary;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  void summaries(MeterRegistry registry) {
+                      DistributionSummary.builder("payload.size").publishPercentileHistogram().minimumExpectedValue(64.0).maximumExpectedValue(1048576.0).register(registry);
+                      DistributionSummary.builder("queue.depth").publishPercentileHistogram().register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void alreadyBounded() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              import java.time.Duration;
+
+              class Test {
+                  Timer timer(MeterRegistry registry) {
+                      return Timer.builder("http")
+                              .publishPercentileHistogram()
+                              .maximumExpectedValue(Duration.ofSeconds(5))
+                              .register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void summaryWithoutBoundsUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.DistributionSummary;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  void summary(MeterRegistry registry) {
+                      DistributionSummary.builder("payload.size").publishPercentileHistogram().register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.*;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.micrometer.dropwizard.FindDropwizardMetrics;
+import org.openrewrite.micrometer.misk.MigrateEmptyLabelMiskCounter;
+import org.openrewrite.micrometer.misk.NoExplicitEmptyLabelList;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs each recipe over many source files on many threads sharing one {@link ExecutionContext}, and checks
+ * that every source file and every data table ends up the same as when the source files are run one by one.
+ */
+class ConcurrentRecipeExecutionTest {
+    private static final int SOURCE_FILES = 256;
+    private static final int THREADS = 16;
+
+    /**
+     * The registry shared by the source files of the scanning recipes, all of which extend it.
+     */
+    //language=java
+    private static final String BASE = """
+      package metrics;
+
+      import io.micrometer.core.instrument.MeterRegistry;
+      import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+      class Base {
+          protected final MeterRegistry registry;
+
+          Base() {
+              this.registry = new SimpleMeterRegistry();
+          }
+      }
+      """;
+
+    @Test
+    void timerToObservation() throws Exception {
+        assertSameAsSerial(new TimerToObservation(),
+          JavaParser.fromJavaVersion().classpath("micrometer-core"),
+          i -> """
+            import io.micrometer.core.instrument.MeterRegistry;
+            import io.micrometer.core.instrument.Timer;
+
+            class Test%d {
+                private MeterRegistry registry;
+
+                void test(Runnable arg) {
+                    Timer.builder("my.timer")
+                            .tag("key", "value")
+                            .register(registry)
+                            .record(arg);
+                }
+            }
+            """.formatted(i));
+    }
+
+    @Test
+    void noExplicitEmptyLabelList() throws Exception {
+        assertSameAsSerial(new NoExplicitEmptyLabelList(),
+          JavaParser.fromJavaVersion().classpath("misk-metrics", "kotlin-reflect", "kotlin-stdlib"),
+          i -> """
+            import misk.metrics.v2.Metrics;
+            import static kotlin.collections.CollectionsKt.listOf;
+
+            class Test%d {
+              void test(Metrics metrics) {
+                  metrics.counter("counter", "description", listOf());
+              }
+            }
+            """.formatted(i));
+    }
+
+    @Test
+    void migrateEmptyLabelMiskCounter() throws Exception {
+        assertSameAsSerial(new MigrateEmptyLabelMiskCounter(null),
+          JavaParser.fromJavaVersion().classpath("misk-metrics", "kotlin-reflect", "kotlin-stdlib"),
+          i -> """
+            import misk.metrics.v2.Metrics;
+            import static kotlin.collections.CollectionsKt.listOf;
+
+            class Test%d {
+              void test(Metrics metrics) {
+                  metrics.counter("counter", "description", listOf());
+              }
+            }
+            """.formatted(i));
+    }
+
+    @Test
+    void findDropwizardMetrics() throws Exception {
+        for (Boolean aggregate : Arrays.asList(false, true)) {
+            assertSameAsSerial(new FindDropwizardMetrics(aggregate, null, null),
+              JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(), "metrics-core"),
+              i -> """
+                import com.codahale.metrics.MetricRegistry;
+
+                class Test%d {
+                   void instrument(MetricRegistry registry) {
+                       registry.counter("my.counter");
+                       registry.gauge("my.gauge");
+                   }
+                }
+                """.formatted(i));
+        }
+    }
+
+    @Test
+    void consolidateCommonTags() throws Exception {
+        assertSameAsSerial(new ConsolidateCommonTags(),
+          JavaParser.fromJavaVersion().classpath("micrometer-core"),
+          i -> i == 0 ? BASE : """
+            package metrics;
+
+            class Test%d extends Base {
+                void count() {
+                    registry.counter("count.%d", "region", "eu", "type", "t%d").increment();
+                }
+            }
+            """.formatted(i, i, i));
+    }
+
+    @Test
+    void guardHighCardinalityTags() throws Exception {
+        assertSameAsSerial(new GuardHighCardinalityTags(100),
+          JavaParser.fromJavaVersion().classpath("micrometer-core"),
+          i -> i == 0 ? BASE : """
+            package metrics;
+
+            class Test%d extends Base {
+                void handle(String path) {
+                    registry.counter("requests.%d", "path", path).increment();
+                }
+            }
+            """.formatted(i, i % 4));
+    }
+
+    @Test
+    void estimateMeterFootprint() throws Exception {
+        assertSameAsSerial(new EstimateMeterFootprint(null),
+          JavaParser.fromJavaVersion().classpath("micrometer-core"),
+          i -> i == 0 ? BASE : """
+            package metrics;
+
+            class Test%d extends Base {
+                void count(boolean success) {
+                    registry.counter("count.%d", "success", String.valueOf(success)).increment();
+                }
+            }
+            """.formatted(i, i));
+    }
+
+    private static void assertSameAsSerial(Recipe recipe, JavaParser.Builder<?, ?> parser, IntFunction<String> source) throws Exception {
+        List<SourceFile> sourceFiles = parse(parser, source);
+
+        ExecutionContext serialCtx = newExecutionContext();
+        List<String> serial = new ArrayList<>();
+        for (SourceFile sourceFile : sourceFiles) {
+            serial.add(run(recipe, sourceFile, serialCtx));
+        }
+
+        ExecutionContext sharedCtx = newExecutionContext();
+        assertThat(inParallel(sourceFiles, sourceFile -> run(recipe, sourceFile, sharedCtx))).isEqualTo(serial);
+
+        assertThat(rowCounts(sharedCtx)).isEqualTo(rowCounts(serialCtx));
+    }
+
+    /**
+     * Like {@link #assertSameAsSerial(Recipe, JavaParser.Builder, IntFunction)}, with every source file scanned into
+     * one accumulator, before every source file is visited with it.
+     */
+    private static <A> void assertSameAsSerial(ScanningRecipe<A> recipe, JavaParser.Builder<?, ?> parser, IntFunction<String> source) throws Exception {
+        List<SourceFile> sourceFiles = parse(parser, source);
+
+        ExecutionContext serialCtx = newExecutionContext();
+        A serialAcc = recipe.getInitialValue(serialCtx);
+        for (SourceFile sourceFile : sourceFiles) {
+            run(new SharedAccumulator<>(recipe, serialAcc, true), sourceFile, serialCtx);
+        }
+        List<String> serial = new ArrayList<>();
+        for (SourceFile sourceFile : sourceFiles) {
+            serial.add(run(new SharedAccumulator<>(recipe, serialAcc, false), sourceFile, serialCtx));
+        }
+        assertThat(serial).isNotEqualTo(sourceFiles.stream().map(SourceFile::printAll).collect(Collectors.toList()));
+
+        ExecutionContext sharedCtx = newExecutionContext();
+        A sharedAcc = recipe.getInitialValue(sharedCtx);
+        inParallel(sourceFiles, sourceFile -> run(new SharedAccumulator<>(recipe, sharedAcc, true), sourceFile, sharedCtx));
+        assertThat(inParallel(sourceFiles, sourceFile -> run(new SharedAccumulator<>(recipe, sharedAcc, false), sourceFile, sharedCtx)))
+          .isEqualTo(serial);
+
+        assertThat(rowCounts(sharedCtx)).isEqualTo(rowCounts(serialCtx));
+    }
+
+    private static List<SourceFile> parse(JavaParser.Builder<?, ?> parser, IntFunction<String> source) {
+        return parser.build()
+          .parse(new InMemoryExecutionContext(), IntStream.range(0, SOURCE_FILES).mapToObj(source).toArray(String[]::new))
+          .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The result of running each source file on one of many threads, in the order of the source files.
+     */
+    private static List<String> inParallel(List<SourceFile> sourceFiles, Function<SourceFile, String> run) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (SourceFile sourceFile : sourceFiles) {
+                futures.add(executor.submit(() -> run.apply(sourceFile)));
+            }
+            List<String> results = new ArrayList<>();
+            for (Future<String> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ExecutionContext newExecutionContext() {
+        return new InMemoryExecutionContext(t -> {
+            throw new AssertionError(t);
+        });
+    }
+
+    private static String run(Recipe recipe, SourceFile sourceFile, ExecutionContext ctx) {
+        // a single cycle, so every concurrent run is in the cycle that writes data tables
+        List<Result> results = recipe.run(new InMemoryLargeSourceSet(singletonList(sourceFile)), ctx, 1)
+          .getChangeset()
+          .getAllResults();
+        return results.isEmpty() ? sourceFile.printAll() : requireNonNull(results.get(0).getAfter()).printAll();
+    }
+
+    /**
+     * @return The number of rows in each of this module's data tables.
+     */
+    private static Map<String, Integer> rowCounts(ExecutionContext ctx) {
+        DataTableStore store = DataTableExecutionContextView.view(ctx).getDataTableStore();
+        Map<String, Integer> counts = new TreeMap<>();
+        for (DataTable<?> dataTable : store.getDataTables()) {
+            if (dataTable.getClass().getName().startsWith("org.openrewrite.micrometer.")) {
+                counts.merge(dataTable.getName(), (int) store.getRows(dataTable.getName(), dataTable.getGroup()).count(), Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * One phase of a scanning recipe, run against an accumulator kept across runs. A run of the recipe itself
+     * starts from a new accumulator, so the scanners of source files run concurrently would never share one.
+     */
+    private static class SharedAccumulator<A> extends ScanningRecipe<A> {
+        private final ScanningRecipe<A> recipe;
+        private final A acc;
+        private final boolean scan;
+
+        SharedAccumulator(ScanningRecipe<A> recipe, A acc, boolean scan) {
+            this.recipe = recipe;
+            this.acc = acc;
+            this.scan = scan;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return recipe.getDisplayName();
+        }
+
+        @Override
+        public String getDescription() {
+            return recipe.getDescription();
+        }
+
+        @Override
+        public A getInitialValue(ExecutionContext ctx) {
+            return acc;
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getScanner(A acc) {
+            return scan ? recipe.getScanner(acc) : TreeVisitor.noop();
+        }
+
+        @Override
+        public Collection<? extends SourceFile> generate(A acc, ExecutionContext ctx) {
+            return scan ? emptyList() : recipe.generate(acc, ctx);
+        }
+
+        @Override
+        public TreeVisitor<?, ExecutionContext> getVisitor(A acc) {
+            return scan ? TreeVisitor.noop() : recipe.getVisitor(acc);
+        }
+    }
+}
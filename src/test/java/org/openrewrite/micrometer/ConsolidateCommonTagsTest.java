@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class ConsolidateCommonTagsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ConsolidateCommonTags())
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void moveCommonTagToRegistry() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry;
+
+                  Test() {
+                      this.registry = new SimpleMeterRegistry();
+                  }
+
+                  void a() {
+                      Counter.builder("a").tag("region", "eu").tag("type", "x").register(registry).increment();
+                  }
+
+                  void b() {
+                      registry.counter("b", "region", "eu", "type", "y").increment();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry;
+
+                  Test() {
+                      this.registry = new SimpleMeterRegistry();
+                      this.registry.config().commonTags("region", "eu");
+                  }
+
+                  void a() {
+                      Counter.builder("a").tag("type", "x").register(registry).increment();
+                  }
+
+                  void b() {
+                      registry.counter("b", "type", "y").increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void localRegistry() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  void run() {
+                      MeterRegistry registry = new SimpleMeterRegistry();
+                      registry.counter("a", "app", "shop").increment();
+                      registry.counter("b", "app", "shop").increment();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  void run() {
+                      MeterRegistry registry = new SimpleMeterRegistry();
+                      registry.config().commonTags("app", "shop");
+                      registry.counter("a").increment();
+                      registry.counter("b").increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noConstructionSite() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry;
+
+                  Test(MeterRegistry registry) {
+                      this.registry = registry;
+                  }
+
+                  void a() {
+                      registry.counter("a", "app", "shop").increment();
+                  }
+
+                  void b() {
+                      registry.counter("b", "app", "shop").increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void registryPassedElsewhere() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  void run() {
+                      MeterRegistry registry = new SimpleMeterRegistry();
+                      new JvmMemoryMetrics().bindTo(registry);
+                      registry.counter("a", "app", "shop").increment();
+                      registry.counter("b", "app", "shop").increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void tagNotOnEveryMeter() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  void run() {
+                      MeterRegistry registry = new SimpleMeterRegistry();
+                      registry.counter("a", "app", "shop").increment();
+                      registry.counter("b", "app", "admin").increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void registrationWithoutRegistryExpression() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class ShopRegistry extends SimpleMeterRegistry {
+                  void run() {
+                      counter("a", "app", "shop").increment();
+                      counter("b", "app", "shop").increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
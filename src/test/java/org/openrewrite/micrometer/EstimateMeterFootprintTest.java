@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.micrometer.table.MeterFootprints;
+import org.openrewrite.micrometer.table.ModuleMeterFootprints;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class EstimateMeterFootprintTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new EstimateMeterFootprint(null))
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void timerWithBoundedTagsAndHistogram() {
+        rewriteRun(
+          spec -> spec.dataTable(MeterFootprints.Row.class, list ->
+            assertThat(list).containsExactly(
+              new MeterFootprints.Row("Test.java", "", "http.requests", "Timer", 2, 6, "67 histogram buckets", 420, 15168))),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              import java.time.Duration;
+
+              class Test {
+                  enum Method { GET, POST, PUT }
+
+                  Timer timer(MeterRegistry registry, Method method, boolean success) {
+                      return Timer.builder("http.requests")
+                              .tag("method", method.name())
+                              .tag("success", String.valueOf(success))
+                              .publishPercentileHistogram()
+                              .minimumExpectedValue(Duration.ofMillis(1))
+                              .maximumExpectedValue(Duration.ofSeconds(30))
+                              .register(registry);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              import java.time.Duration;
+
+              class Test {
+                  enum Method { GET, POST, PUT }
+
+                  Timer timer(MeterRegistry registry, Method method, boolean success) {
+                      return /*~~(~420 series)~~>*/Timer.builder("http.requests")
+                              .tag("method", method.name())
+                              .tag("success", String.valueOf(success))
+                              .publishPercentileHistogram()
+                              .minimumExpectedValue(Duration.ofMillis(1))
+                              .maximumExpectedValue(Duration.ofSeconds(30))
+                              .register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void timerHistogramWithDefaultBounds() {
+        rewriteRun(
+          spec -> spec.dataTable(MeterFootprints.Row.class, list ->
+            assertThat(list).containsExactly(
+              new MeterFootprints.Row("Test.java", "", "jobs", "Timer", 0, 1, "67 histogram buckets", 70, 2400))),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  Timer timer(MeterRegistry registry) {
+                      return Timer.builder("jobs").publishPercentileHistogram().register(registry);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  Timer timer(MeterRegistry registry) {
+                      return /*~~(~70 series)~~>*/Timer.builder("jobs").publishPercentileHistogram().register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void unboundedTag() {
+        rewriteRun(
+          spec -> spec.recipe(new EstimateMeterFootprint(1000L))
+            .dataTable(MeterFootprints.Row.class, list ->
+              assertThat(list).containsExactly(
+                new MeterFootprints.Row("Test.java", "", "orders", "Counter", 1, 1000, "", 1000, 320000))),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  void order(MeterRegistry registry, String customerId) {
+                      registry.counter("orders", "customer", customerId).increment();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  void order(MeterRegistry registry, String customerId) {
+                      /*~~(~1000 series)~~>*/registry.counter("orders", "customer", customerId).increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void serviceLevelObjectivesAndPercentiles() {
+        rewriteRun(
+          spec -> spec.dataTable(MeterFootprints.Row.class, list ->
+            assertThat(list).containsExactly(
+              new MeterFootprints.Row("Test.java", "", "payload.size", "DistributionSummary", 0, 1,
+                "2 service level objectives, 3 percentiles", 9, 8544))),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.DistributionSummary;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  DistributionSummary summary(MeterRegistry registry) {
+                      return DistributionSummary.builder("payload.size")
+                              .serviceLevelObjectives(1024.0, 65536.0)
+                              .publishPercentiles(0.5, 0.95, 0.99)
+                              .register(registry);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.DistributionSummary;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  DistributionSummary summary(MeterRegistry registry) {
+                      return /*~~(~9 series)~~>*/DistributionSummary.builder("payload.size")
+                              .serviceLevelObjectives(1024.0, 65536.0)
+                              .publishPercentiles(0.5, 0.95, 0.99)
+                              .register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void totalsPerModule() {
+        rewriteRun(
+          spec -> spec.dataTable(ModuleMeterFootprints.Row.class, list ->
+            assertThat(list).containsExactly(new ModuleMeterFootprints.Row("", 2, 2, 576))),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Tags;
+
+              import java.util.Queue;
+
+              class Test {
+                  void register(MeterRegistry registry, Queue<String> queue) {
+                      Counter.builder("jobs").register(registry);
+                      registry.gauge("queue.size", Tags.of("region", "eu"), queue, Queue::size);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Tags;
+
+              import java.util.Queue;
+
+              class Test {
+                  void register(MeterRegistry registry, Queue<String> queue) {
+                      /*~~(~1 series)~~>*/Counter.builder("jobs").register(registry);
+                      /*~~(~1 series)~~>*/registry.gauge("queue.size", Tags.of("region", "eu"), queue, Queue::size);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.micrometer.table.ExpensiveGaugeFunctions;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class FindExpensiveGaugeFunctionsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindExpensiveGaugeFunctions())
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void jdbcThroughHelperMethod() {
+        rewriteRun(
+          spec -> spec.dataTable(ExpensiveGaugeFunctions.Row.class, list ->
+            assertThat(list).containsExactly(new ExpensiveGaugeFunctions.Row(
+              "Test.java", "queue.depth", "Gauge", "JDBC", "countQueued -> DataSource.getConnection"))),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Gauge;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              import javax.sql.DataSource;
+              import java.sql.Connection;
+              import java.sql.ResultSet;
+              import java.sql.SQLException;
+              import java.sql.Statement;
+
+              class Test {
+                  void register(MeterRegistry registry, DataSource ds) {
+                      Gauge.builder("queue.depth", ds, d -> countQueued(d)).register(registry);
+                  }
+
+                  double countQueued(DataSource ds) {
+                      try (Connection connection = ds.getConnection(); Statement statement = connection.createStatement()) {
+                          ResultSet rs = statement.executeQuery("select count(*) from queue");
+                          return rs.next() ? rs.getDouble(1) : 0;
+                      } catch (SQLException e) {
+                          return Double.NaN;
+                      }
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Gauge;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              import javax.sql.DataSource;
+              import java.sql.Connection;
+              import java.sql.ResultSet;
+              import java.sql.SQLException;
+              import java.sql.Statement;
+
+              class Test {
+                  void register(MeterRegistry registry, DataSource ds) {
+                      Gauge.builder("queue.depth", ds, /*~~(JDBC via countQueued -> DataSource.getConnection)~~>*/d -> countQueued(d)).register(registry);
+                  }
+
+                  double countQueued(DataSource ds) {
+                      try (Connection connection = ds.getConnection(); Statement statement = connection.createStatement()) {
+                          ResultSet rs = statement.executeQuery("select count(*) from queue");
+                          return rs.next() ? rs.getDouble(1) : 0;
+                      } catch (SQLException e) {
+                          return Double.NaN;
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void synchronizedMethodReference() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Test {
+                  private final List<String> pending = new ArrayList<>();
+
+                  void register(MeterRegistry registry) {
+                      registry.gauge("pending", this, Test::pendingCount);
+                  }
+
+                  synchronized double pendingCount() {
+                      return pending.size();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Test {
+                  private final List<String> pending = new ArrayList<>();
+
+                  void register(MeterRegistry registry) {
+                      registry.gauge("pending", this, /*~~(synchronized via Test.pendingCount)~~>*/Test::pendingCount);
+                  }
+
+                  synchronized double pendingCount() {
+                      return pending.size();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void gaugesOfTheSameCompilationUnit() {
+        rewriteRun(
+          spec -> spec.dataTable(ExpensiveGaugeFunctions.Row.class, list ->
+            assertThat(list).containsExactly(
+              new ExpensiveGaugeFunctions.Row("Test.java", "pending", "Gauge", "synchronized", "Test.pendingCount"),
+              new ExpensiveGaugeFunctions.Row("Test.java", "pending.ratio", "Gauge", "synchronized", "ratio -> Test.pendingCount"))),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Test {
+                  private final List<String> pending = new ArrayList<>();
+
+                  void register(MeterRegistry registry) {
+                      registry.gauge("pending", this, Test::pendingCount);
+                      registry.gauge("pending.ratio", this, t -> t.ratio());
+                  }
+
+                  synchronized double pendingCount() {
+                      return pending.size();
+                  }
+
+                  double ratio() {
+                      return pendingCount() / 100;
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              import java.util.ArrayList;
+              import java.util.List;
+
+              class Test {
+                  private final List<String> pending = new ArrayList<>();
+
+                  void register(MeterRegistry registry) {
+                      registry.gauge("pending", this, /*~~(synchronized via Test.pendingCount)~~>*/Test::pendingCount);
+                      registry.gauge("pending.ratio", this, /*~~(synchronized via ratio -> Test.pendingCount)~~>*/t -> t.ratio());
+                  }
+
+                  synchronized double pendingCount() {
+                      return pending.size();
+                  }
+
+                  double ratio() {
+                      return pendingCount() / 100;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void fileSupplier() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Gauge;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              import java.io.File;
+
+              class Test {
+                  void register(MeterRegistry registry) {
+                      Gauge.builder("disk.free", () -> new File("/").getUsableSpace()).register(registry);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Gauge;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              import java.io.File;
+
+              class Test {
+                  void register(MeterRegistry registry) {
+                      Gauge.builder("disk.free", /*~~(file via File.getUsableSpace)~~>*/() -> new File("/").getUsableSpace()).register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void cheapFunctions() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.FunctionCounter;
+              import io.micrometer.core.instrument.Gauge;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              import java.util.Queue;
+              import java.util.concurrent.atomic.AtomicLong;
+
+              class Test {
+                  void register(MeterRegistry registry, Queue<String> queue, AtomicLong processed) {
+                      Gauge.builder("queue.size", queue, Queue::size).register(registry);
+                      FunctionCounter.builder("processed", processed, AtomicLong::get).register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
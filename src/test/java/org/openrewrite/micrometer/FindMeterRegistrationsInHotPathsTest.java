@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.micrometer.table.MeterRegistrationsInHotPaths;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class FindMeterRegistrationsInHotPathsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new FindMeterRegistrationsInHotPaths())
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void loopsAndLambdas() {
+        rewriteRun(
+          spec -> spec.dataTable(MeterRegistrationsInHotPaths.Row.class, list ->
+            assertThat(list).containsExactly(
+              new MeterRegistrationsInHotPaths.Row("Test.java", "Test#loop", "for-each", "Counter", "registry.counter(\"items\")"),
+              new MeterRegistrationsInHotPaths.Row("Test.java", "Test#stream", "stream", "Timer",
+                "Timer.builder(\"items\").register(registry)"),
+              new MeterRegistrationsInHotPaths.Row("Test.java", "Test#callback", "lambda", "Counter", "registry.counter(\"calls\")"))),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+              import java.util.List;
+
+              class Test {
+                  MeterRegistry registry;
+
+                  void loop(List<String> items) {
+                      for (String item : items) {
+                          registry.counter("items").increment();
+                      }
+                  }
+
+                  void stream(List<String> items) {
+                      items.stream().forEach(item -> Timer.builder("items").register(registry).record(() -> {}));
+                  }
+
+                  Runnable callback() {
+                      return () -> registry.counter("calls").increment();
+                  }
+
+                  void once() {
+                      registry.counter("once").increment();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+              import java.util.List;
+
+              class Test {
+                  MeterRegistry registry;
+
+                  void loop(List<String> items) {
+                      for (String item : items) {
+                          /*~~(for-each)~~>*/registry.counter("items").increment();
+                      }
+                  }
+
+                  void stream(List<String> items) {
+                      items.stream().forEach(item -> /*~~(stream)~~>*/Timer.builder("items").register(registry).record(() -> {}));
+                  }
+
+                  Runnable callback() {
+                      return () -> /*~~(lambda)~~>*/registry.counter("calls").increment();
+                  }
+
+                  void once() {
+                      registry.counter("once").increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void requestMapping() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package org.springframework.web.bind.annotation;
+
+              public @interface GetMapping {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import org.springframework.web.bind.annotation.GetMapping;
+
+              class OrderController {
+                  MeterRegistry registry;
+
+                  @GetMapping
+                  String orders() {
+                      registry.counter("orders").increment();
+                      return "";
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import org.springframework.web.bind.annotation.GetMapping;
+
+              class OrderController {
+                  MeterRegistry registry;
+
+                  @GetMapping
+                  String orders() {
+                      /*~~(request mapping)~~>*/registry.counter("orders").increment();
+                      return "";
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void loopControlIsNotHot() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  MeterRegistry registry;
+
+                  void loop() {
+                      for (double d : new double[]{registry.counter("once").count()}) {
+                      }
+                  }
+              }
+              """
+          )
+        );
+    }
+}
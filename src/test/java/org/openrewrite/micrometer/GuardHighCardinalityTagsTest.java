@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.micrometer.table.MaximumAllowableTagsGuards;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class GuardHighCardinalityTagsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new GuardHighCardinalityTags(100))
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void guardUnboundedTag() {
+        rewriteRun(
+          spec -> spec.dataTable(MaximumAllowableTagsGuards.Row.class, list ->
+            assertThat(list).containsExactly(
+              new MaximumAllowableTagsGuards.Row("Test.java", "http.requests", "customer", 100, "identifier"))),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry;
+
+                  Test() {
+                      this.registry = new SimpleMeterRegistry();
+                  }
+
+                  void handle(String customerId) {
+                      Counter.builder("http.requests").tag("customer", customerId).tag("method", "GET").register(registry).increment();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.config.MeterFilter;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry;
+
+                  Test() {
+                      this.registry = new SimpleMeterRegistry();
+                      this.registry.config().meterFilter(MeterFilter.maximumAllowableTags("http.requests", "customer", 100, MeterFilter.deny()));
+                  }
+
+                  void handle(String customerId) {
+                      Counter.builder("http.requests").tag("customer", customerId).tag("method", "GET").register(registry).increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void alreadyGuarded() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.config.MeterFilter;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  void run(String path) {
+                      MeterRegistry registry = new SimpleMeterRegistry();
+                      registry.config().meterFilter(MeterFilter.maximumAllowableTags("requests", "path", 50, MeterFilter.deny()));
+                      registry.counter("requests", "path", path).increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void boundedTagsUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  enum Outcome { SUCCESS, FAILURE }
+
+                  void run(Outcome outcome) {
+                      MeterRegistry registry = new SimpleMeterRegistry();
+                      registry.counter("requests", "outcome", outcome.name()).increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void registrationWithoutRegistryExpression() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class ShopRegistry extends SimpleMeterRegistry {
+                  void handle(String customerId) {
+                      counter("http.requests", "customer", customerId).increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class HoistMeterRegistrationTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new HoistMeterRegistration())
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void hoistIntoConstructor() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry;
+
+                  Test(MeterRegistry registry) {
+                      this.registry = registry;
+                  }
+
+                  void handle() {
+                      Counter.builder("http.requests").tag("method", "GET").register(registry).increment();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry;
+                  private final Counter httpRequestsCounter;
+
+                  Test(MeterRegistry registry) {
+                      this.registry = registry;
+                      this.httpRequestsCounter = Counter.builder("http.requests").tag("method", "GET").register(this.registry);
+                  }
+
+                  void handle() {
+                      httpRequestsCounter.increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void hoistInitializedRegistryAndShareField() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+                  void first() {
+                      registry.timer("work").record(() -> {});
+                  }
+
+                  void second() {
+                      registry.timer("work").record(() -> {});
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry = new SimpleMeterRegistry();
+                  private final Timer workTimer = registry.timer("work");
+
+                  void first() {
+                      workTimer.record(() -> {});
+                  }
+
+                  void second() {
+                      workTimer.record(() -> {});
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void avoidNameClash() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+                  void handle() {
+                      int jobsCounter = 0;
+                      registry.counter("jobs").increment();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry = new SimpleMeterRegistry();
+                  private final Counter jobsCounter2 = registry.counter("jobs");
+
+                  void handle() {
+                      int jobsCounter = 0;
+                      jobsCounter2.increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void dynamicTagsUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry;
+
+                  Test(MeterRegistry registry) {
+                      this.registry = registry;
+                  }
+
+                  void handle(String status) {
+                      Counter.builder("http.requests").tag("status", status).register(registry).increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void registryNotAFinalField() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  void handle(MeterRegistry registry) {
+                      registry.counter("jobs").increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void registrationAsStatementUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+                  void handle() {
+                      registry.counter("jobs");
+                      Runnable register = () -> registry.counter("tasks");
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void constructorParameterShadowsRegistry() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry;
+
+                  Test(MeterRegistry registry) {
+                      this.registry = registry != null ? registry : new SimpleMeterRegistry();
+                  }
+
+                  void handle() {
+                      registry.counter("jobs").increment();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry;
+                  private final Counter jobsCounter;
+
+                  Test(MeterRegistry registry) {
+                      this.registry = registry != null ? registry : new SimpleMeterRegistry();
+                      this.jobsCounter = this.registry.counter("jobs");
+                  }
+
+                  void handle() {
+                      jobsCounter.increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void generatedConstructorUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package lombok;
+
+              public @interface RequiredArgsConstructor {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import lombok.RequiredArgsConstructor;
+
+              @RequiredArgsConstructor
+              class Test {
+                  private final MeterRegistry registry;
+
+                  void handle() {
+                      registry.counter("jobs").increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void avoidNameOfInheritedField() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Base {
+                  protected int jobsCounter;
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test extends Base {
+                  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+                  void handle() {
+                      jobsCounter++;
+                      registry.counter("jobs").increment();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test extends Base {
+                  private final MeterRegistry registry = new SimpleMeterRegistry();
+                  private final Counter jobsCounter2 = registry.counter("jobs");
+
+                  void handle() {
+                      jobsCounter++;
+                      jobsCounter2.increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
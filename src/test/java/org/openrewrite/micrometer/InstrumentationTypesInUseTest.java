@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.test.RewriteTest.toRecipe;
+
+class InstrumentationTypesInUseTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(toRecipe(() -> InstrumentationTypesInUse.uses(InstrumentationTypesInUse.Library.values())))
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void findMicrometer() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  void test(MeterRegistry registry) {
+                      registry.counter("my.counter").increment();
+                  }
+              }
+              """,
+            """
+              /*~~>*/import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  void test(MeterRegistry registry) {
+                      registry.counter("my.counter").increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noInstrumentation() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                  void test(Runnable arg) {
+                      arg.run();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void otherLibrary() {
+        rewriteRun(
+          spec -> spec.recipe(toRecipe(() -> InstrumentationTypesInUse.uses(InstrumentationTypesInUse.Library.DROPWIZARD))),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  void test(MeterRegistry registry) {
+                      registry.counter("my.counter").increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
@@ -22,6 +22,8 @@ import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.gradle.Assertions.buildGradle;
+import static org.openrewrite.gradle.toolingapi.Assertions.withToolingApi;
 import static org.openrewrite.maven.Assertions.pomXml;
 
 class MicrometerBestPracticesTest implements RewriteTest {
@@ -62,5 +64,33 @@ class MicrometerBestPracticesTest implements RewriteTest {
               )
             );
         }
+
+        @Test
+        void gradle() {
+            rewriteRun(
+              spec -> spec.beforeRecipe(withToolingApi()),
+              buildGradle(
+                //language=groovy
+                """
+                  plugins {
+                      id "java-library"
+                  }
+
+                  repositories {
+                      mavenCentral()
+                  }
+
+                  dependencies {
+                      implementation "io.micrometer:micrometer-core:1.10.10"
+                  }
+                  """,
+                spec -> spec.after(actual ->
+                  assertThat(actual)
+                    .as("Any version of Micrometer above 1.10.x")
+                    .containsPattern("io\\.micrometer:micrometer-core:1\\.1[1-9]\\.\\d+")
+                    .actual())
+              )
+            );
+        }
     }
 }
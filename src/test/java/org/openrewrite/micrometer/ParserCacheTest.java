@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParserCacheTest {
+
+    @Test
+    void sharedPerExecutionContext() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        ParserCache cache = ParserCache.get(ctx);
+        assertThat(ParserCache.get(ctx)).isSameAs(cache);
+
+        assertThat(cache.classpath(ctx, "micrometer-core"))
+          .isSameAs(cache.classpath(ctx, "micrometer-core"));
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void newBuilderOnSharedClasspath() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        ParserCache cache = ParserCache.get(ctx);
+
+        assertThat(cache.classpathFromResources(ctx, "micrometer-core"))
+          .isNotSameAs(cache.classpathFromResources(ctx, "micrometer-core"));
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        ParserCache cache = new ParserCache(1);
+
+        cache.classpathFromResources(ctx, "micrometer-core");
+        cache.classpathFromResources(ctx, "metrics-core");
+        cache.classpathFromResources(ctx, "micrometer-core");
+        assertThat(cache.getMisses()).isEqualTo(3);
+        assertThat(cache.getHits()).isZero();
+    }
+}
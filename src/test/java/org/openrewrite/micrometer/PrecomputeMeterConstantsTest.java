@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class PrecomputeMeterConstantsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new PrecomputeMeterConstants())
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void constantTags() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Tags;
+
+              class Test {
+                  void handle(MeterRegistry registry) {
+                      registry.counter("requests", Tags.of("region", "eu").and("app", "shop")).increment();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Tags;
+
+              class Test {
+                  private static final Tags REGION_APP_TAGS = Tags.of("region", "eu").and("app", "shop");
+
+                  void handle(MeterRegistry registry) {
+                      registry.counter("requests", REGION_APP_TAGS).increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void formattedName() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  private static final String SERVICE = "orders";
+
+                  void handle(MeterRegistry registry, Runnable r) {
+                      Timer.builder(String.format("svc.%s.latency", SERVICE)).register(registry).record(r);
+                  }
+
+                  void other(MeterRegistry registry, Runnable r) {
+                      Timer.builder(String.format("svc.%s.latency", SERVICE)).register(registry).record(r);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  private static final String SERVICE = "orders";
+                  private static final String SVC_LATENCY_NAME = String.format("svc.%s.latency", SERVICE);
+
+                  void handle(MeterRegistry registry, Runnable r) {
+                      Timer.builder(SVC_LATENCY_NAME).register(registry).record(r);
+                  }
+
+                  void other(MeterRegistry registry, Runnable r) {
+                      Timer.builder(SVC_LATENCY_NAME).register(registry).record(r);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void concatenatedEnumName() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  enum Region { EU }
+
+                  void handle(MeterRegistry registry) {
+                      registry.counter("requests." + Region.EU).increment();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  private static final String REQUESTS_NAME = "requests." + Region.EU;
+
+                  enum Region { EU }
+
+                  void handle(MeterRegistry registry) {
+                      registry.counter(REQUESTS_NAME).increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void compileTimeConstantsAndDynamicTagsUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Tags;
+
+              class Test {
+                  private static final String PREFIX = "svc.";
+
+                  void handle(MeterRegistry registry, String region) {
+                      registry.counter(PREFIX + "requests", Tags.of("region", region)).increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
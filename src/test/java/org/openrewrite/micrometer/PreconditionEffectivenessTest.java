@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openrewrite.*;
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.kotlin.KotlinParser;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.micrometer.dropwizard.FindDropwizardMetrics;
+import org.openrewrite.micrometer.misk.MigrateEmptyLabelMiskCounter;
+import org.openrewrite.micrometer.misk.NoExplicitEmptyLabelList;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the preconditions of each recipe keep its visitor from visiting source files that don't use the
+ * library the recipe migrates.
+ */
+class PreconditionEffectivenessTest {
+
+    //language=java
+    private static final String[] UNRELATED_JAVA = {
+      """
+        import java.util.ArrayList;
+        import java.util.List;
+
+        class Names {
+            private final List<String> names = new ArrayList<>();
+
+            void add(String name) {
+                if (!names.contains(name)) {
+                    names.add(name.trim());
+                }
+            }
+        }
+        """,
+      """
+        import java.util.concurrent.TimeUnit;
+
+        class Timing {
+            long elapsed(Runnable runnable) {
+                long start = System.nanoTime();
+                runnable.run();
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            }
+
+            void record(long duration) {
+                System.out.println(String.valueOf(duration));
+            }
+        }
+        """
+    };
+
+    //language=kotlin
+    private static final String[] UNRELATED_KOTLIN = {
+      """
+        fun counts(words: List<String>): Map<String, Int> =
+            words.groupBy { it.lowercase() }.mapValues { it.value.size }
+
+        fun labels() = listOf("a", "b").map { it.uppercase() }
+        """
+    };
+
+    static Stream<Recipe> recipes() {
+        return Stream.of(
+          new TimerToObservation(),
+          new HoistMeterRegistration(),
+          new UseMeterProvider(),
+          new PrecomputeMeterConstants(),
+          new ConsolidateCommonTags(),
+          new FindMeterRegistrationsInHotPaths(),
+          new GuardHighCardinalityTags(100),
+          new UsePercentileHistograms(null),
+          new BoundHistogramBuckets(null, null, null),
+          new EstimateMeterFootprint(null),
+          new UseInjectedMeterRegistry(),
+          new BatchCounterIncrements(),
+          new FindExpensiveGaugeFunctions(),
+          new MigrateEmptyLabelMiskCounter(null),
+          new NoExplicitEmptyLabelList(),
+          new FindDropwizardMetrics(null, null, null)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("recipes")
+    void unrelatedSourcesAreNotVisited(Recipe recipe) {
+        ExecutionContext ctx = new InMemoryExecutionContext(t -> {
+            throw new AssertionError(t);
+        });
+        TreeVisitor<?, ExecutionContext> visitor = visitor(recipe, ctx);
+        assertThat(visitor).isInstanceOf(RecipeInstrumentation.InstrumentedCheck.class);
+        RecipeInstrumentation.InstrumentedCheck check = (RecipeInstrumentation.InstrumentedCheck) visitor;
+
+        for (SourceFile sourceFile : unrelatedSources(ctx)) {
+            CountingVisitor counting = new CountingVisitor(check.getVisitor());
+
+            Tree after = check.withVisitor(counting).visit(sourceFile, ctx);
+
+            assertThat(counting.visits)
+              .as("%s visited %s", recipe.getName(), sourceFile.getSourcePath())
+              .hasValue(0);
+            assertThat(after).isSameAs(sourceFile);
+        }
+    }
+
+    @Test
+    void countVisits() {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        for (SourceFile sourceFile : unrelatedSources(ctx)) {
+            CountingVisitor counting = new CountingVisitor(new JavaIsoVisitor<>());
+
+            Preconditions.check(new TreeVisitor<Tree, ExecutionContext>() {
+                @Override
+                public Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                    return tree == null ? null : SearchResult.found(tree);
+                }
+            }, counting).visit(sourceFile, ctx);
+
+            assertThat(counting.visits).as("The counting decorator must see an unconditional visitor").hasPositiveValue();
+        }
+    }
+
+    /**
+     * @return The visitor of the recipe, which for a scanning recipe is the one for an empty accumulator rather than
+     * the wrapper {@link Recipe#getVisitor()} returns around it.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static TreeVisitor<?, ExecutionContext> visitor(Recipe recipe, ExecutionContext ctx) {
+        if (recipe instanceof ScanningRecipe) {
+            ScanningRecipe scanning = (ScanningRecipe) recipe;
+            return scanning.getVisitor(scanning.getInitialValue(ctx));
+        }
+        return recipe.getVisitor();
+    }
+
+    private static List<SourceFile> unrelatedSources(ExecutionContext ctx) {
+        return Stream.concat(
+          JavaParser.fromJavaVersion().build().parse(ctx, UNRELATED_JAVA),
+          KotlinParser.builder().build().parse(ctx, UNRELATED_KOTLIN)
+        ).collect(Collectors.toList());
+    }
+
+    /**
+     * Counts the trees its delegate is asked to visit, whatever the delegate does with them.
+     */
+    private static class CountingVisitor extends TreeVisitor<Tree, ExecutionContext> {
+        private final TreeVisitor<?, ExecutionContext> delegate;
+        private final AtomicInteger visits = new AtomicInteger();
+
+        CountingVisitor(TreeVisitor<?, ExecutionContext> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isAcceptable(SourceFile sourceFile, ExecutionContext ctx) {
+            return delegate.isAcceptable(sourceFile, ctx);
+        }
+
+        @Override
+        public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+            visits.incrementAndGet();
+            return delegate.visit(tree, ctx);
+        }
+
+        @Override
+        public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx, Cursor parent) {
+            visits.incrementAndGet();
+            return delegate.visit(tree, ctx, parent);
+        }
+    }
+}
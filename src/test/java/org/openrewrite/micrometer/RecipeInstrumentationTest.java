@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.java;
+
+class RecipeInstrumentationTest implements RewriteTest {
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        ExecutionContext ctx = new InMemoryExecutionContext();
+        ctx.putMessage(RecipeInstrumentation.METER_REGISTRY, registry);
+        spec.recipe(new TimerToObservation())
+          .executionContext(ctx)
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @Test
+    void recordRecipeExecution() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  private MeterRegistry registry;
+
+                  void test(Runnable arg) {
+                      Timer.builder("my.timer")
+                              .register(registry)
+                              .record(arg);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.observation.Observation;
+              import io.micrometer.observation.ObservationRegistry;
+
+              class Test {
+                  private ObservationRegistry registry;
+
+                  void test(Runnable arg) {
+                      Observation.createNotStarted("my.timer", registry)
+                              .observe(arg);
+                  }
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              class Unrelated {
+                  void test(Runnable arg) {
+                      arg.run();
+                  }
+              }
+              """
+          )
+        );
+
+        String recipe = "org.openrewrite.micrometer.TimerToObservation";
+        assertThat(registry.get("rewrite.recipe.visit").tag("recipe", recipe).timer().count()).isPositive();
+        assertThat(registry.get("rewrite.recipe.template").tag("recipe", recipe).timer().count()).isEqualTo(1);
+        assertThat(registry.get("rewrite.recipe.matches").tag("recipe", recipe).counter().count()).isEqualTo(1);
+        assertThat(registry.get("rewrite.recipe.precondition.rejections").tag("recipe", recipe).counter().count()).isPositive();
+    }
+
+    @Test
+    void visitorIsAPreconditionCheck() {
+        // so that tooling looking for preconditions still finds them
+        assertThat(new TimerToObservation().getVisitor()).isInstanceOf(Preconditions.Check.class);
+    }
+}
@@ -19,10 +19,12 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.micrometer.table.HighCardinalityTags;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 import org.openrewrite.test.TypeValidation;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 class TimerToObservationTest implements RewriteTest {
@@ -70,6 +72,127 @@ class TimerToObservationTest implements RewriteTest {
         );
     }
 
+    @Test
+    void changesTypesInTheSameTraversal() {
+        rewriteRun(
+          // Types the recipe changes itself, rather than in later ChangeType passes, are complete after one cycle
+          spec -> spec.cycles(1).expectedCyclesThatMakeChanges(1)
+            .typeValidationOptions(TypeValidation.all()),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  private MeterRegistry registry;
+
+                  void test(Runnable arg) {
+                      Timer.builder("my.timer")
+                              .register(registry)
+                              .record(arg);
+                  }
+
+                  MeterRegistry registry() {
+                      return registry;
+                  }
+              }
+              """,
+            """
+              import io.micrometer.observation.Observation;
+              import io.micrometer.observation.ObservationRegistry;
+
+              class Test {
+                  private ObservationRegistry registry;
+
+                  void test(Runnable arg) {
+                      Observation.createNotStarted("my.timer", registry)
+                              .observe(arg);
+                  }
+
+                  ObservationRegistry registry() {
+                      return registry;
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void staticImportOfTimerMembers() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              import static io.micrometer.core.instrument.Timer.*;
+
+              class Test {
+                  private MeterRegistry registry;
+
+                  void test(Runnable arg) {
+                      builder("my.timer")
+                              .register(registry)
+                              .record(arg);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.observation.Observation;
+              import io.micrometer.observation.ObservationRegistry;
+
+              class Test {
+                  private ObservationRegistry registry;
+
+                  void test(Runnable arg) {
+                      Observation.createNotStarted("my.timer", registry)
+                              .observe(arg);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void staticImportOfTimerBuilder() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              import static io.micrometer.core.instrument.Timer.builder;
+
+              class Test {
+                  private MeterRegistry registry;
+
+                  void test(Runnable arg) {
+                      builder("my.timer")
+                              .register(registry)
+                              .record(arg);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.observation.Observation;
+              import io.micrometer.observation.ObservationRegistry;
+
+              class Test {
+                  private ObservationRegistry registry;
+
+                  void test(Runnable arg) {
+                      Observation.createNotStarted("my.timer", registry)
+                              .observe(arg);
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void timerVariable() {
         rewriteRun(
@@ -178,7 +301,7 @@ class TimerToObservationTest implements RewriteTest {
 
                   void test(Runnable arg) {
                       Observation.createNotStarted("my.timer", registry)
-                              .highCardinalityKeyValue("key", "value")
+                              .lowCardinalityKeyValue("key", "value")
                               .observe(arg);
                   }
               }
@@ -187,6 +310,60 @@ class TimerToObservationTest implements RewriteTest {
             );
         }
 
+        @Test
+        void parameterTagIsHighCardinality() {
+            rewriteRun(
+              spec -> spec.dataTable(HighCardinalityTags.Row.class, list ->
+                assertThat(list).containsExactly(
+                  new HighCardinalityTags.Row("Test.java", "\"my.timer\"", "\"user\"", "userId", "identifier"),
+                  new HighCardinalityTags.Row("Test.java", "\"my.timer\"", "\"method\"", "method", "method parameter"))),
+              //language=java
+              java(
+                """
+                  import io.micrometer.core.instrument.MeterRegistry;
+                  import io.micrometer.core.instrument.Timer;
+
+                  class Test {
+                      enum Outcome { SUCCESS, FAILURE }
+
+                      private MeterRegistry registry;
+
+                      void test(Runnable arg, String method, String userId, Outcome outcome) {
+                          String kind = "batch";
+                          Timer.builder("my.timer")
+                                  .tag("method", method)
+                                  .tag("user", userId)
+                                  .tag("outcome", outcome.name())
+                                  .tag("kind", kind)
+                                  .register(registry)
+                                  .record(arg);
+                      }
+                  }
+                  """,
+                """
+                  import io.micrometer.observation.Observation;
+                  import io.micrometer.observation.ObservationRegistry;
+
+                  class Test {
+                      enum Outcome { SUCCESS, FAILURE }
+
+                      private ObservationRegistry registry;
+
+                      void test(Runnable arg, String method, String userId, Outcome outcome) {
+                          String kind = "batch";
+                          Observation.createNotStarted("my.timer", registry)
+                                  .highCardinalityKeyValue("method", method)
+                                  .highCardinalityKeyValue("user", userId)
+                                  .lowCardinalityKeyValue("outcome", outcome.name())
+                                  .lowCardinalityKeyValue("kind", kind)
+                                  .observe(arg);
+                      }
+                  }
+                  """
+              )
+            );
+        }
+
         @Test
         void tagsVarArgs() {
             rewriteRun(
@@ -217,7 +394,7 @@ class TimerToObservationTest implements RewriteTest {
 
                       void test(Runnable arg) {
                           Observation.createNotStarted("my.timer", registry)
-                                  .highCardinalityKeyValues(KeyValues.of("key1", "value1", "key2", "value2"))
+                                  .lowCardinalityKeyValues(KeyValues.of("key1", "value1", "key2", "value2"))
                                   .observe(arg);
                       }
                   }
@@ -603,5 +780,4 @@ class TimerToObservationTest implements RewriteTest {
             );
         }
     }
-
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseInjectedMeterRegistryTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseInjectedMeterRegistry())
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void registryField() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Metrics;
+
+              class Test {
+                  private final MeterRegistry registry;
+
+                  Test(MeterRegistry registry) {
+                      this.registry = registry;
+                  }
+
+                  void order() {
+                      Metrics.counter("orders", "region", "eu").increment();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry;
+
+                  Test(MeterRegistry registry) {
+                      this.registry = registry;
+                  }
+
+                  void order() {
+                      registry.counter("orders", "region", "eu").increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void constructorParameter() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Metrics;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  private final Timer timer;
+
+                  Test(MeterRegistry meterRegistry) {
+                      this.timer = Timer.builder("jobs").register(Metrics.globalRegistry);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  private final Timer timer;
+
+                  Test(MeterRegistry meterRegistry) {
+                      this.timer = Timer.builder("jobs").register(meterRegistry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void globalRegistryWithoutRegistryInScope() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Metrics;
+
+              class Test {
+                  private final MeterRegistry registry = Metrics.globalRegistry;
+
+                  static void started() {
+                      Metrics.counter("started").increment();
+                  }
+
+                  void copy(MeterRegistry source, MeterRegistry target) {
+                      Metrics.counter("copies").increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+}
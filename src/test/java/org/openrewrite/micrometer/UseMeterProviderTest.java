@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+
+class UseMeterProviderTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UseMeterProvider())
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void timerWithDynamicTag() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  private final MeterRegistry registry;
+
+                  Test(MeterRegistry registry) {
+                      this.registry = registry;
+                  }
+
+                  void handle(String code, Runnable r) {
+                      Timer.builder("http").tag("status", code).register(registry).record(r);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Meter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  private final MeterRegistry registry;
+                  private final Meter.MeterProvider<Timer> httpTimerProvider;
+
+                  Test(MeterRegistry registry) {
+                      this.registry = registry;
+                      this.httpTimerProvider = Timer.builder("http").withRegistry(this.registry);
+                  }
+
+                  void handle(String code, Runnable r) {
+                      httpTimerProvider.withTags("status", code).record(r);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepConstantTagsOnBuilder() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+                  void handle(String method, String status) {
+                      Counter.builder("requests").tag("method", method).tag("app", "shop").tag("status", status).register(registry).increment();
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.Meter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry = new SimpleMeterRegistry();
+                  private final Meter.MeterProvider<Counter> requestsCounterProvider = Counter.builder("requests").tag("app", "shop").withRegistry(registry);
+
+                  void handle(String method, String status) {
+                      requestsCounterProvider.withTags("method", method, "status", status).increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void constantTagsOnlyUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+                  void handle() {
+                      Counter.builder("requests").tag("app", "shop").register(registry).increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void dynamicNameUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+                  void handle(String name, String status) {
+                      Counter.builder(name).tag("status", status).register(registry).increment();
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void constructorParameterShadowsRegistry() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry;
+
+                  Test(MeterRegistry registry) {
+                      this.registry = registry != null ? registry : new SimpleMeterRegistry();
+                  }
+
+                  void handle(String code, Runnable r) {
+                      Timer.builder("http").tag("status", code).register(registry).record(r);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Meter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+              import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+              class Test {
+                  private final MeterRegistry registry;
+                  private final Meter.MeterProvider<Timer> httpTimerProvider;
+
+                  Test(MeterRegistry registry) {
+                      this.registry = registry != null ? registry : new SimpleMeterRegistry();
+                      this.httpTimerProvider = Timer.builder("http").withRegistry(this.registry);
+                  }
+
+                  void handle(String code, Runnable r) {
+                      httpTimerProvider.withTags("status", code).record(r);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void generatedConstructorUnchanged() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              package lombok;
+
+              public @interface RequiredArgsConstructor {
+              }
+              """
+          ),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+              import lombok.RequiredArgsConstructor;
+
+              @RequiredArgsConstructor
+              class Test {
+                  private final MeterRegistry registry;
+
+                  void handle(String code, Runnable r) {
+                      Timer.builder("http").tag("status", code).register(registry).record(r);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
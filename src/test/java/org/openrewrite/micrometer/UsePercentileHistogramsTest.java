@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Moderne Source Available License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://docs.moderne.io/licensing/moderne-source-available-license
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.micrometer;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class UsePercentileHistogramsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new UsePercentileHistograms(null))
+          .parser(JavaParser.fromJavaVersion().classpath("micrometer-core"));
+    }
+
+    @DocumentExample
+    @Test
+    void timerBuilder() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  Timer timer(MeterRegistry registry) {
+                      return Timer.builder("http")
+                              .publishPercentiles(0.5, 0.99)
+                              .register(registry);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  Timer timer(MeterRegistry registry) {
+                      return Timer.builder("http")
+                              .publishPercentileHistogram()
+                              .register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void summaryAlreadyPublishingHistogram() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.DistributionSummary;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  DistributionSummary summary(MeterRegistry registry) {
+                      return DistributionSummary.builder("payload")
+                              .publishPercentiles(0.99)
+                              .publishPercentileHistogram()
+                              .register(registry);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.DistributionSummary;
+              import io.micrometer.core.instrument.MeterRegistry;
+
+              class Test {
+                  DistributionSummary summary(MeterRegistry registry) {
+                      return DistributionSummary.builder("payload")
+                              .publishPercentileHistogram()
+                              .register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void timedAnnotation() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import io.micrometer.core.annotation.Timed;
+
+              class Test {
+                  @Timed(value = "orders", percentiles = {0.5, 0.95})
+                  void orders() {
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.annotation.Timed;
+
+              class Test {
+                  @Timed(value = "orders", histogram = true)
+                  void orders() {
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepPercentilesWithoutHistogramBackend() {
+        rewriteRun(
+          spec -> spec.recipe(new UsePercentileHistograms(true)),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  Timer timer(MeterRegistry registry) {
+                      return Timer.builder("http").publishPercentiles(0.5, 0.99).register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void replacePercentilesWithHistogramBackend() {
+        rewriteRun(
+          spec -> spec.recipe(new UsePercentileHistograms(true))
+            .parser(JavaParser.fromJavaVersion().classpath("micrometer-core", "micrometer-registry-prometheus")),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.Timer;
+              import io.micrometer.prometheus.PrometheusConfig;
+              import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+              class Test {
+                  Timer timer() {
+                      PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+                      return Timer.builder("http").publishPercentiles(0.5, 0.99).register(registry);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Timer;
+              import io.micrometer.prometheus.PrometheusConfig;
+              import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+              class Test {
+                  Timer timer() {
+                      PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+                      return Timer.builder("http").publishPercentileHistogram().register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void histogramBackendDeclaredInBuild() {
+        rewriteRun(
+          spec -> spec.recipe(new UsePercentileHistograms(true)),
+          //language=xml
+          pomXml(
+            """
+              <project>
+                  <groupId>com.example</groupId>
+                  <artifactId>shop</artifactId>
+                  <version>1.0</version>
+                  <dependencies>
+                      <dependency>
+                          <groupId>io.micrometer</groupId>
+                          <artifactId>micrometer-registry-prometheus</artifactId>
+                          <version>1.12.13</version>
+                      </dependency>
+                  </dependencies>
+              </project>
+              """
+          ),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  Timer timer(MeterRegistry registry) {
+                      return Timer.builder("http").publishPercentiles(0.5, 0.99).register(registry);
+                  }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import io.micrometer.core.instrument.Timer;
+
+              class Test {
+                  Timer timer(MeterRegistry registry) {
+                      return Timer.builder("http").publishPercentileHistogram().register(registry);
+                  }
+              }
+              """
+          )
+        );
+    }
+}
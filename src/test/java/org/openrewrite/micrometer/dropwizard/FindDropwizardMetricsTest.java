@@ -16,15 +16,24 @@
 package org.openrewrite.micrometer.dropwizard;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.Checksum;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.kotlin.KotlinParser;
 import org.openrewrite.micrometer.table.DropwizardMetricsInUse;
+import org.openrewrite.micrometer.table.DropwizardMetricsSummary;
+import org.openrewrite.micrometer.table.ResultCacheStatistics;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.kotlin.Assertions.kotlin;
 
 class FindDropwizardMetricsTest implements RewriteTest {
 
@@ -66,4 +75,290 @@ class FindDropwizardMetricsTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void findAllMetricTypes() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              import com.codahale.metrics.Counter;
+              import com.codahale.metrics.MetricRegistry;
+
+              class Test {
+                 void instrument(MetricRegistry registry) {
+                     registry.meter("my.meter");
+                     registry.histogram("my.histogram");
+                     registry.timer(MetricRegistry.name(Test.class, "my.timer"));
+                     registry.register("my.registered", new Counter());
+                     registry.register("my.nested", registry.counter("my.inner"));
+                     registry.remove("my.meter");
+                 }
+              }
+              """,
+            """
+              import com.codahale.metrics.Counter;
+              import com.codahale.metrics.MetricRegistry;
+
+              class Test {
+                 void instrument(MetricRegistry registry) {
+                     /*~~(Meter)~~>*/registry.meter("my.meter");
+                     /*~~(Histogram)~~>*/registry.histogram("my.histogram");
+                     /*~~(Timer)~~>*/registry.timer(/*~~(Name)~~>*/MetricRegistry.name(Test.class, "my.timer"));
+                     /*~~(Counter)~~>*/registry.register("my.registered", new Counter());
+                     /*~~(Counter)~~>*/registry.register("my.nested", /*~~(Counter)~~>*/registry.counter("my.inner"));
+                     registry.remove("my.meter");
+                 }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void aggregate() {
+        rewriteRun(
+          spec -> spec.recipe(new FindDropwizardMetrics(true, null, null))
+            .dataTable(DropwizardMetricsSummary.Row.class, list ->
+              assertThat(list).containsExactly(
+                new DropwizardMetricsSummary.Row("Test.java", "Counter", "my.counter", 2),
+                new DropwizardMetricsSummary.Row("Test.java", "Gauge", null, 1))),
+          //language=java
+          java(
+            """
+              import com.codahale.metrics.MetricRegistry;
+
+              class Test {
+                 void instrument(MetricRegistry registry, String name) {
+                     registry.counter("my.counter");
+                     registry.counter("my.counter");
+                     registry.gauge(name);
+                 }
+              }
+              """,
+            """
+              import com.codahale.metrics.MetricRegistry;
+
+              class Test {
+                 void instrument(MetricRegistry registry, String name) {
+                     /*~~(Counter)~~>*/registry.counter("my.counter");
+                     /*~~(Counter)~~>*/registry.counter("my.counter");
+                     /*~~(Gauge)~~>*/registry.gauge(name);
+                 }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void metricNames() {
+        rewriteRun(
+          spec -> spec.recipe(new FindDropwizardMetrics(true, null, null))
+            .dataTable(DropwizardMetricsSummary.Row.class, list ->
+              assertThat(list).containsExactly(
+                new DropwizardMetricsSummary.Row("Test.java", "Name", "my.requests", 1),
+                new DropwizardMetricsSummary.Row("Test.java", "Counter", "my.requests", 1),
+                new DropwizardMetricsSummary.Row("Test.java", "Name", null, 1))),
+          //language=java
+          java(
+            """
+              import com.codahale.metrics.MetricRegistry;
+
+              class Test {
+                 String instrument(MetricRegistry registry, String name) {
+                     registry.counter(MetricRegistry.name("my", "requests"));
+                     return MetricRegistry.name(Test.class, name);
+                 }
+              }
+              """,
+            """
+              import com.codahale.metrics.MetricRegistry;
+
+              class Test {
+                 String instrument(MetricRegistry registry, String name) {
+                     /*~~(Counter)~~>*/registry.counter(/*~~(Name)~~>*/MetricRegistry.name("my", "requests"));
+                     return /*~~(Name)~~>*/MetricRegistry.name(Test.class, name);
+                 }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void truncateSnippets() {
+        rewriteRun(
+          spec -> spec.recipe(new FindDropwizardMetrics(null, 16, null))
+            .dataTable(DropwizardMetricsInUse.Row.class, list ->
+              assertThat(list).singleElement()
+                .extracting(DropwizardMetricsInUse.Row::getMetricCode)
+                .isEqualTo("registry.coun...")),
+          //language=java
+          java(
+            """
+              import com.codahale.metrics.MetricRegistry;
+
+              class Test {
+                 void instrument(MetricRegistry registry) {
+                     registry.counter("my.counter");
+                 }
+              }
+              """,
+            """
+              import com.codahale.metrics.MetricRegistry;
+
+              class Test {
+                 void instrument(MetricRegistry registry) {
+                     /*~~(Counter)~~>*/registry.counter("my.counter");
+                 }
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void snippetLengthLeavesRoomForEllipsis() {
+        assertThat(new FindDropwizardMetrics(null, 3, null).validate().isInvalid()).isTrue();
+        assertThat(new FindDropwizardMetrics(null, 4, null).validate().isValid()).isTrue();
+        assertThat(new FindDropwizardMetrics(null, 0, null).validate().isValid()).isTrue();
+    }
+
+    @Test
+    void skipFileWithoutFindingsFromCache(@TempDir Path cacheDirectory) {
+        //language=java
+        String source = """
+          import com.codahale.metrics.MetricRegistry;
+
+          class Test {
+             MetricRegistry registry;
+          }
+          """;
+        Checksum checksum = new Checksum("SHA-256", source.getBytes(StandardCharsets.UTF_8));
+        rewriteRun(
+          spec -> spec.recipe(new FindDropwizardMetrics(null, null, cacheDirectory.toString()))
+            .dataTable(ResultCacheStatistics.Row.class, list ->
+              assertThat(list).extracting(ResultCacheStatistics.Row::isCacheHit).containsExactly(false)),
+          java(source, spec -> spec.mapBeforeRecipe(cu -> cu.withChecksum(checksum)))
+        );
+        rewriteRun(
+          spec -> spec.recipe(new FindDropwizardMetrics(null, null, cacheDirectory.toString()))
+            .dataTable(ResultCacheStatistics.Row.class, list ->
+              assertThat(list).extracting(ResultCacheStatistics.Row::isCacheHit).containsExactly(true)),
+          java(source, spec -> spec.mapBeforeRecipe(cu -> cu.withChecksum(checksum)))
+        );
+    }
+
+    @Test
+    void searchFileWithFindingsAgain(@TempDir Path cacheDirectory) {
+        //language=java
+        String before = """
+          import com.codahale.metrics.MetricRegistry;
+
+          class Test {
+             void instrument(MetricRegistry registry) {
+                 registry.counter("my.counter");
+             }
+          }
+          """;
+        //language=java
+        String after = """
+          import com.codahale.metrics.MetricRegistry;
+
+          class Test {
+             void instrument(MetricRegistry registry) {
+                 /*~~(Counter)~~>*/registry.counter("my.counter");
+             }
+          }
+          """;
+        Checksum checksum = new Checksum("SHA-256", before.getBytes(StandardCharsets.UTF_8));
+        for (int run = 0; run < 2; run++) {
+            // the call sites are marked on every run, not only when the file is first searched
+            rewriteRun(
+              spec -> spec.recipe(new FindDropwizardMetrics(null, null, cacheDirectory.toString()))
+                .dataTable(ResultCacheStatistics.Row.class, list ->
+                  assertThat(list).extracting(ResultCacheStatistics.Row::isCacheHit).containsExactly(false))
+                .dataTable(DropwizardMetricsInUse.Row.class, list ->
+                  assertThat(list).singleElement()
+                    .extracting(DropwizardMetricsInUse.Row::getMetricCode)
+                    .isEqualTo("registry.counter(\"my.counter\")")),
+              java(before, after, spec -> spec.mapBeforeRecipe(cu -> cu.withChecksum(checksum)))
+            );
+        }
+    }
+
+    @Test
+    void noCacheWithoutChecksumOrFileAttributes(@TempDir Path cacheDirectory) {
+        rewriteRun(
+          spec -> spec.recipe(new FindDropwizardMetrics(null, null, cacheDirectory.toString()))
+            .dataTable(DropwizardMetricsInUse.Row.class, list -> assertThat(list).hasSize(1)),
+          //language=java
+          java(
+            """
+              import com.codahale.metrics.MetricRegistry;
+
+              class Test {
+                 void instrument(MetricRegistry registry) {
+                     registry.counter("my.counter");
+                 }
+              }
+              """,
+            """
+              import com.codahale.metrics.MetricRegistry;
+
+              class Test {
+                 void instrument(MetricRegistry registry) {
+                     /*~~(Counter)~~>*/registry.counter("my.counter");
+                 }
+              }
+              """
+          )
+        );
+        assertThat(cacheDirectory).isEmptyDirectory();
+    }
+
+    @Test
+    void kotlinSource() {
+        rewriteRun(
+          spec -> spec.parser(KotlinParser.builder().classpathFromResources(new InMemoryExecutionContext(), "metrics-core"))
+            .dataTable(DropwizardMetricsInUse.Row.class, list ->
+              assertThat(list).singleElement()
+                .extracting(DropwizardMetricsInUse.Row::getMetricType)
+                .isEqualTo("Counter")),
+          //language=kotlin
+          kotlin(
+            """
+              import com.codahale.metrics.MetricRegistry
+
+              fun instrument(registry: MetricRegistry) {
+                  registry.counter("my.counter")
+              }
+              """,
+            """
+              import com.codahale.metrics.MetricRegistry
+
+              fun instrument(registry: MetricRegistry) {
+                  /*~~(Counter)~~>*/registry.counter("my.counter")
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void noDropwizard() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class Test {
+                 void instrument(java.util.Map<String, Integer> registry) {
+                     registry.remove("my.meter");
+                 }
+              }
+              """
+          )
+        );
+    }
 }
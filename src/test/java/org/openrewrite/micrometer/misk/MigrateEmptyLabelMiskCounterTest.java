@@ -27,7 +27,7 @@ class MigrateEmptyLabelMiskCounterTest implements RewriteTest {
 
     @Override
     public void defaults(RecipeSpec spec) {
-        spec.recipe(new MigrateEmptyLabelMiskCounter())
+        spec.recipe(new MigrateEmptyLabelMiskCounter(null))
           .parser(JavaParser.fromJavaVersion()
             .classpath("misk-metrics", "kotlin-reflect", "kotlin-stdlib"));
     }
@@ -62,4 +62,39 @@ class MigrateEmptyLabelMiskCounterTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void useInjectedRegistry() {
+        rewriteRun(
+          spec -> spec.recipe(new MigrateEmptyLabelMiskCounter(true))
+            .parser(JavaParser.fromJavaVersion()
+              .classpath("misk-metrics", "kotlin-reflect", "kotlin-stdlib", "micrometer-core")),
+          //language=java
+          java(
+            """
+              import io.micrometer.core.instrument.MeterRegistry;
+              import misk.metrics.v2.Metrics;
+              import static kotlin.collections.CollectionsKt.listOf;
+
+              class Test {
+                void test(Metrics metrics, MeterRegistry registry) {
+                    metrics.counter("counter", "description", listOf());
+                }
+              }
+              """,
+            """
+              import io.micrometer.core.instrument.Counter;
+              import io.micrometer.core.instrument.MeterRegistry;
+              import misk.metrics.v2.Metrics;
+              import static kotlin.collections.CollectionsKt.listOf;
+
+              class Test {
+                void test(Metrics metrics, MeterRegistry registry) {
+                    Counter.builder("counter").description("description").register(registry);
+                }
+              }
+              """
+          )
+        );
+    }
 }
@@ -68,6 +68,25 @@ class NoExplicitEmptyLabelListTest implements RewriteTest {
         );
     }
 
+    @Test
+    void keepNonEmptyLabels() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              import misk.metrics.v2.Metrics;
+              import static kotlin.collections.CollectionsKt.listOf;
+
+              class Test {
+                void test(Metrics metrics) {
+                    metrics.counter("counter", "description", listOf("label"));
+                }
+              }
+              """
+          )
+        );
+    }
+
     @Disabled
     @Test
     void emptyLabelKt() {